@@ -0,0 +1,118 @@
+package com.likelion.lionpay_auth.benchmark;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.enums.AdminRole;
+import com.likelion.lionpay_auth.security.AccessTokenDenylist;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+import com.likelion.lionpay_auth.security.VerifiedTokenCache;
+import com.likelion.lionpay_auth.service.JwtKeySet;
+import com.likelion.lionpay_auth.service.JwtService;
+import io.opentelemetry.api.OpenTelemetry;
+import io.opentelemetry.api.metrics.Meter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtService의 토큰 발급/검증 경로와 JwtAuthenticationFilter의 클레임 추출 비용을 측정합니다.
+ * 같은 벤치마크를 1, 8, 16 스레드에서 실행하며, build.gradle의 jmh 설정에 따라 -prof gc로 할당량도 함께 기록합니다.
+ *
+ * 실행: ./gradlew jmh -PjmhIncludes=JwtServiceBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public abstract class JwtServiceBenchmark {
+
+    private JwtService jwtService;
+    private VerifiedTokenCache verifiedTokenCache;
+    private AccessTokenDenylist accessTokenDenylist;
+
+    private String userId;
+    private String adminId;
+    private String userAccessToken;
+    private String adminAccessToken;
+    private String refreshToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-for-hs256-must-be-at-least-256-bits");
+        properties.setIssuer("lionpay-auth");
+        properties.setUserAudience("lionpay-app");
+        properties.setAdminAudience("lionpay-management");
+        properties.setAccessTokenExpirationMinutes(30);
+        properties.setRefreshTokenExpirationDays(7);
+
+        Meter meter = OpenTelemetry.noop().getMeter("benchmark");
+        jwtService = new JwtService(properties, new JwtKeySet(properties));
+        // 기본 설정과 동일하게 검증 캐시는 비활성, 폐기 목록은 비어 있는 상태 (저장소 조회 없음)
+        verifiedTokenCache = new VerifiedTokenCache(properties, meter);
+        accessTokenDenylist = new AccessTokenDenylist(null, properties, meter);
+
+        userId = UUID.randomUUID().toString();
+        adminId = UUID.randomUUID().toString();
+        userAccessToken = jwtService.generateAccessToken(userId);
+        adminAccessToken = jwtService.generateAccessToken(adminId, "admin", AdminRole.ADMIN);
+        refreshToken = jwtService.generateRefreshToken(userId);
+    }
+
+    @Benchmark
+    public String generateUserAccessToken() {
+        return jwtService.generateAccessToken(userId);
+    }
+
+    @Benchmark
+    public String generateAdminAccessToken() {
+        return jwtService.generateAccessToken(adminId, "admin", AdminRole.ADMIN);
+    }
+
+    @Benchmark
+    public String generateRefreshToken() {
+        return jwtService.generateRefreshToken(userId);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtService.validateToken(userAccessToken);
+    }
+
+    /**
+     * JwtAuthenticationFilter가 관리자 토큰 요청마다 수행하는 처리 (저장소 조회가 없는 경로)
+     */
+    @Benchmark
+    public void filterClaimExtraction(Blackhole bh) {
+        VerifiedClaims claims = verifiedTokenCache.getOrVerify(adminAccessToken, jwtService::verify).orElseThrow();
+        bh.consume(jwtService.validateIssuer(claims));
+        bh.consume(accessTokenDenylist.isRevoked(claims));
+        bh.consume(claims.role());
+        bh.consume(claims.subject());
+        bh.consume(claims.username());
+    }
+
+    @Benchmark
+    public boolean validateRefreshToken() {
+        return jwtService.validateToken(refreshToken);
+    }
+
+    @Threads(1)
+    public static class SingleThread extends JwtServiceBenchmark {
+    }
+
+    @Threads(8)
+    public static class EightThreads extends JwtServiceBenchmark {
+    }
+
+    @Threads(16)
+    public static class SixteenThreads extends JwtServiceBenchmark {
+    }
+}
@@ -0,0 +1,64 @@
+package com.likelion.lionpay_auth.benchmark;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.enums.AdminRole;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+import com.likelion.lionpay_auth.service.JwtKeySet;
+import com.likelion.lionpay_auth.service.JwtService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter가 요청마다 수행하는 토큰 처리 비용을 비교합니다.
+ * legacy: validateToken, validateIssuer, getRole, getSubject, getUsername을 각각 호출 (토큰 5회 파싱)
+ * verify: verify 한 번으로 모든 클레임을 얻음 (토큰 1회 파싱)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private JwtService jwtService;
+    private String adminToken;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret("benchmark-secret-key-for-hs256-must-be-at-least-256-bits");
+        properties.setIssuer("lionpay-auth");
+        properties.setUserAudience("lionpay-app");
+        properties.setAdminAudience("lionpay-management");
+        properties.setAccessTokenExpirationMinutes(30);
+        properties.setRefreshTokenExpirationDays(7);
+
+        jwtService = new JwtService(properties, new JwtKeySet(properties));
+        adminToken = jwtService.generateAccessToken(UUID.randomUUID().toString(), "admin", AdminRole.ADMIN);
+    }
+
+    @Benchmark
+    public void legacyClaimExtraction(Blackhole bh) {
+        bh.consume(jwtService.validateToken(adminToken));
+        bh.consume(jwtService.validateIssuer(adminToken));
+        bh.consume(jwtService.getRole(adminToken));
+        bh.consume(jwtService.getSubject(adminToken));
+        bh.consume(jwtService.getUsername(adminToken));
+    }
+
+    @Benchmark
+    public void verifyOnce(Blackhole bh) {
+        VerifiedClaims claims = jwtService.verify(adminToken).orElseThrow();
+        bh.consume(jwtService.validateIssuer(claims));
+        bh.consume(claims.role());
+        bh.consume(claims.subject());
+        bh.consume(claims.username());
+    }
+}
@@ -1,20 +1,25 @@
 package com.likelion.lionpay_auth.config;
 
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.ClientOverrideConfiguration;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 
 import java.net.URI;
+import java.time.Duration;
 
 /**
  * DynamoDB 클라이언트를 설정하고 Bean으로 등록하는 클래스.
  */
+@Slf4j
 @Configuration
 public class DynamoDbConfig {
 
@@ -30,10 +35,32 @@ public class DynamoDbConfig {
     @Value("${aws.dynamodb.secret-key:}")
     private String secretKey;
 
+    @Value("${aws.dynamodb.max-connections:0}")
+    private int maxConnections;
+
+    @Value("${aws.dynamodb.simulated-latency:}")
+    private String simulatedLatency;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     @Bean
     public DynamoDbClient dynamoDbClient() {
+        // 가상 스레드 모드에서는 동시 요청 수가 Tomcat 스레드 풀로 제한되지 않으므로,
+        // 커넥션 풀이 새로운 병목이 되지 않도록 더 크게 잡습니다.
+        int connections = maxConnections > 0 ? maxConnections : (virtualThreads ? 1000 : 50);
         var builder = DynamoDbClient.builder()
-                .region(Region.of(region));
+                .region(Region.of(region))
+                .httpClientBuilder(ApacheHttpClient.builder()
+                        .maxConnections(connections)
+                        .connectionAcquisitionTimeout(Duration.ofSeconds(10)));
+
+        if (simulatedLatency != null && !simulatedLatency.isBlank()) {
+            log.warn("DynamoDB 요청에 인위적 지연({}ms)을 추가합니다. 부하 테스트 전용 설정입니다.", simulatedLatency);
+            builder.overrideConfiguration(ClientOverrideConfiguration.builder()
+                    .addExecutionInterceptor(SimulatedLatencyInterceptor.parse(simulatedLatency))
+                    .build());
+        }
 
         // endpoint가 설정된 경우 (로컬 DynamoDB) 정적 자격 증명 사용
         if (endpoint != null && !endpoint.isBlank()) {
@@ -1,5 +1,6 @@
 package com.likelion.lionpay_auth.config;
 
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
 import com.likelion.lionpay_auth.entity.LionPayTableItem;
 import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
@@ -10,10 +11,28 @@ import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.CreateTableEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.EnhancedGlobalSecondaryIndex;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexDescription;
+import software.amazon.awssdk.services.dynamodb.model.GlobalSecondaryIndexUpdate;
+import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
+import software.amazon.awssdk.services.dynamodb.model.KeyType;
+import software.amazon.awssdk.services.dynamodb.model.Projection;
+import software.amazon.awssdk.services.dynamodb.model.ProjectionType;
 import software.amazon.awssdk.services.dynamodb.model.ResourceInUseException;
+import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.TableDescription;
 
 import org.springframework.beans.factory.ObjectProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 애플리케이션 시작 시 DynamoDB 단일 테이블을 자동으로 생성하는 초기화 컴포넌트.
  */
@@ -23,7 +42,20 @@ import org.springframework.beans.factory.ObjectProvider;
 @ConditionalOnProperty(name = "aws.dynamodb.init-table", havingValue = "true", matchIfMissing = false)
 public class DynamoDbInitializer {
 
+	// 관리자 사용자 목록(AdminUserResponse)에 필요한 속성
+	private static final Projection USER_LIST_PROJECTION = Projection.builder()
+			.projectionType(ProjectionType.INCLUDE)
+			.nonKeyAttributes("userId", "phone", "name", "status")
+			.build();
+
+	// 관리자 목록(AdminDetailResponse)에 필요한 속성. 비밀번호 해시는 인덱스에 복제하지 않습니다.
+	private static final Projection ADMIN_LIST_PROJECTION = Projection.builder()
+			.projectionType(ProjectionType.INCLUDE)
+			.nonKeyAttributes("adminId", "username", "name", "createdAt")
+			.build();
+
 	private final DynamoDbEnhancedClient enhancedClient;
+	private final DynamoDbClient dynamoDbClient;
 	// suggestion: @Value 어노테이션을 필드에 직접 사용하여 생성자 코드를 단순화합니다.
 	@Value("${aws.dynamodb.table-name}")
 	private String tableName;
@@ -38,16 +70,134 @@ public class DynamoDbInitializer {
 				TableSchema.fromBean(LionPayTableItem.class));
 
 		try {
-			// 마스터 스키마에 GSI 정보가 모두 포함되어 있으므로,
-			// 별도의 설정 없이 createTable()을 호출하면 SDK가 알아서 GSI를 포함하여 테이블을 생성합니다.
-			table.createTable();
+			// 마스터 스키마에 GSI 키 정보가 모두 포함되어 있으며, 인덱스별 프로젝션만 지정합니다.
+			// byUserId, byAdminId는 키 조회 용도이므로 KEYS_ONLY로 만들어 인덱스 저장/쓰기 비용을 줄입니다.
+			// byRole은 관리자 목록을 인덱스만으로 읽을 수 있도록 목록에 필요한 속성만 담습니다. (비밀번호 해시 제외)
+			// byListShard는 관리자 사용자 목록에 필요한 속성만 담고 비밀번호 해시는 복제하지 않습니다.
+			table.createTable(CreateTableEnhancedRequest.builder()
+					.globalSecondaryIndices(
+							EnhancedGlobalSecondaryIndex.builder()
+									.indexName("byUserId")
+									.projection(p -> p.projectionType(ProjectionType.KEYS_ONLY))
+									.build(),
+							EnhancedGlobalSecondaryIndex.builder()
+									.indexName("byAdminId")
+									.projection(p -> p.projectionType(ProjectionType.KEYS_ONLY))
+									.build(),
+							EnhancedGlobalSecondaryIndex.builder()
+									.indexName("byRole")
+									.projection(ADMIN_LIST_PROJECTION)
+									.build(),
+							EnhancedGlobalSecondaryIndex.builder()
+									.indexName("byListShard")
+									.projection(USER_LIST_PROJECTION)
+									.build())
+					.build());
 			log.info("'{}' 테이블이 성공적으로 생성되었습니다.", tableName);
 		} catch (ResourceInUseException e) {
 			log.info("'{}' 테이블은 이미 존재합니다.", tableName);
+			ensureIndexes();
 		} catch (Exception e) {
 			log.error("'{}' 테이블 생성 중 오류가 발생했습니다.", tableName, e);
 		}
 
+		enableTimeToLive();
+
 		log.info("DynamoDB 테이블 초기화가 완료되었습니다.");
 	}
+
+	/**
+	 * 기존 테이블에 없는 GSI를 추가합니다. (인덱스 백필은 DynamoDB가 비동기로 수행)
+	 * UpdateTable 한 번에 인덱스 하나만 만들 수 있으므로 하나씩 요청하고, 실패한 인덱스는 다음 시작 시 다시 시도합니다.
+	 */
+	private void ensureIndexes() {
+		Map<String, GlobalSecondaryIndexDescription> existing;
+		try {
+			TableDescription description = dynamoDbClient.describeTable(builder -> builder.tableName(tableName)).table();
+			existing = description.hasGlobalSecondaryIndexes()
+					? description.globalSecondaryIndexes().stream()
+							.collect(Collectors.toMap(GlobalSecondaryIndexDescription::indexName, Function.identity()))
+					: Map.of();
+		} catch (Exception e) {
+			log.error("'{}' 테이블 정보를 조회할 수 없어 GSI 확인을 건너뜁니다.", tableName, e);
+			return;
+		}
+
+		Projection keysOnly = Projection.builder().projectionType(ProjectionType.KEYS_ONLY).build();
+		if (!existing.containsKey("byUserId")) {
+			createIndex("byUserId", "userId", "sk", keysOnly);
+		}
+		if (!existing.containsKey("byAdminId")) {
+			createIndex("byAdminId", "adminId", null, keysOnly);
+		}
+		GlobalSecondaryIndexDescription byRole = existing.get("byRole");
+		if (byRole == null) {
+			createIndex("byRole", "role", null, ADMIN_LIST_PROJECTION);
+		} else if (byRole.projection().projectionType() == ProjectionType.ALL) {
+			// 이전 정의는 비밀번호 해시까지 복제했습니다. 프로젝션은 바꿀 수 없으므로 지우고, 삭제가 끝난 뒤 다음 시작 시 다시 만듭니다.
+			// 그동안 관리자 조회는 테이블 Scan으로 대신 처리됩니다.
+			deleteIndex("byRole");
+		}
+		if (!existing.containsKey("byListShard")) {
+			createIndex("byListShard", "listShard", "createdAt", USER_LIST_PROJECTION);
+		}
+		// 리프레시 토큰은 해시 키로 GetItem 하므로 byRefreshToken은 더 이상 읽지 않습니다.
+		// 이전 버전 인스턴스가 아직 조회할 수 있으므로 자동으로 지우지 않습니다.
+		if (existing.containsKey("byRefreshToken")) {
+			log.info("'byRefreshToken' GSI는 더 이상 사용하지 않습니다. 모든 인스턴스가 새 버전으로 바뀐 뒤 삭제해도 됩니다.");
+		}
+	}
+
+	private void createIndex(String indexName, String partitionKey, String sortKey, Projection projection) {
+		List<AttributeDefinition> attributes = new ArrayList<>();
+		List<KeySchemaElement> keySchema = new ArrayList<>();
+		attributes.add(AttributeDefinition.builder().attributeName(partitionKey).attributeType(ScalarAttributeType.S).build());
+		keySchema.add(KeySchemaElement.builder().attributeName(partitionKey).keyType(KeyType.HASH).build());
+		if (sortKey != null) {
+			attributes.add(AttributeDefinition.builder().attributeName(sortKey).attributeType(ScalarAttributeType.S).build());
+			keySchema.add(KeySchemaElement.builder().attributeName(sortKey).keyType(KeyType.RANGE).build());
+		}
+
+		try {
+			dynamoDbClient.updateTable(builder -> builder
+					.tableName(tableName)
+					.attributeDefinitions(attributes)
+					.globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder().create(index -> index
+							.indexName(indexName)
+							.keySchema(keySchema)
+							.projection(projection)).build()));
+			log.info("'{}' 테이블에 {} 인덱스 생성을 요청했습니다.", tableName, indexName);
+		} catch (Exception e) {
+			log.error("'{}' 테이블 {} 인덱스 생성 중 오류가 발생했습니다. 다음 시작 시 다시 시도합니다.", tableName, indexName, e);
+		}
+	}
+
+	private void deleteIndex(String indexName) {
+		try {
+			dynamoDbClient.updateTable(builder -> builder
+					.tableName(tableName)
+					.globalSecondaryIndexUpdates(GlobalSecondaryIndexUpdate.builder()
+							.delete(index -> index.indexName(indexName)).build()));
+			log.info("'{}' 테이블에 {} 인덱스 삭제를 요청했습니다.", tableName, indexName);
+		} catch (Exception e) {
+			log.error("'{}' 테이블 {} 인덱스 삭제 중 오류가 발생했습니다. 다음 시작 시 다시 시도합니다.", tableName, indexName, e);
+		}
+	}
+
+	/**
+	 * 폐기된 토큰 등 만료 시각이 있는 항목이 자동 삭제되도록 ttl 속성에 TTL을 활성화합니다.
+	 */
+	private void enableTimeToLive() {
+		try {
+			dynamoDbClient.updateTimeToLive(builder -> builder
+					.tableName(tableName)
+					.timeToLiveSpecification(spec -> spec
+							.attributeName(DynamoDBConstants.TTL_ATTRIBUTE)
+							.enabled(true)));
+			log.info("'{}' 테이블의 TTL({})을 활성화했습니다.", tableName, DynamoDBConstants.TTL_ATTRIBUTE);
+		} catch (Exception e) {
+			// 이미 활성화된 경우에도 예외가 발생하므로 경고만 남깁니다.
+			log.warn("'{}' 테이블 TTL 설정을 건너뜁니다: {}", tableName, e.getMessage());
+		}
+	}
 }
@@ -1,10 +1,15 @@
 package com.likelion.lionpay_auth.config;
 
+import com.likelion.lionpay_auth.enums.TokenProfile;
+import com.likelion.lionpay_auth.enums.UserAuthMode;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Getter
 @Setter
 @Component
@@ -16,4 +21,60 @@ public class JwtProperties {
 	private String adminAudience;
 	private int accessTokenExpirationMinutes;
 	private int refreshTokenExpirationDays;
+	private TokenProfile tokenProfile = TokenProfile.STANDARD;
+	private UserAuthMode userAuthMode = UserAuthMode.LOOKUP;
+	private VerifiedCache verifiedCache = new VerifiedCache();
+	private Signing signing = new Signing();
+	private Revocation revocation = new Revocation();
+
+	/**
+	 * 검증된 토큰 캐시 설정 (jwt.verified-cache.*)
+	 */
+	@Getter
+	@Setter
+	public static class VerifiedCache {
+		private boolean enabled = false;
+		private int maxSize = 10_000;
+		private long maxTtlSeconds = 300;
+	}
+
+	/**
+	 * 액세스 토큰 폐기 목록 설정 (jwt.revocation.*)
+	 */
+	@Getter
+	@Setter
+	public static class Revocation {
+		private boolean enabled = true;
+		private long refreshIntervalSeconds = 5;
+		private long expectedRevocations = 100_000;
+		private double falsePositiveRate = 0.001;
+	}
+
+	/**
+	 * 토큰 서명 설정 (jwt.signing.*)
+	 * algorithm이 ES256이면 keys 중 active-key-id 키로 서명하고, 모든 공개키를 JWKS로 공개합니다.
+	 * 키 교체는 새 키를 먼저 추가해 공개한 뒤 active-key-id를 바꾸고, 이전 키는 토큰 만료 후 제거합니다.
+	 */
+	@Getter
+	@Setter
+	public static class Signing {
+		private String algorithm = "HS256";
+		private String activeKeyId;
+		private List<SigningKey> keys = new ArrayList<>();
+		private long jwksMaxAgeSeconds = 3600;
+		// false이면 kid가 없는 HS256 토큰을 거부합니다. (ES256 전환이 끝난 뒤 공유 비밀키를 폐기할 때)
+		private boolean acceptHs256 = true;
+	}
+
+	/**
+	 * ES256 키. private-key는 PKCS#8, public-key는 X.509 DER을 Base64로 인코딩한 값입니다.
+	 * private-key가 없는 키는 검증과 JWKS 공개에만 사용됩니다.
+	 */
+	@Getter
+	@Setter
+	public static class SigningKey {
+		private String kid;
+		private String privateKey;
+		private String publicKey;
+	}
 }
@@ -0,0 +1,37 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 비밀번호 해시 전용 스레드 풀 설정 (password-hashing.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "password-hashing")
+public class PasswordHashingProperties {
+	// 0이면 사용 가능한 CPU 코어 수
+	private int threads = 0;
+	private int queueCapacity = 64;
+	private long retryAfterSeconds = 1;
+	private Bcrypt bcrypt = new Bcrypt();
+
+	/**
+	 * BCrypt cost 설정 (password-hashing.bcrypt.*)
+	 */
+	@Getter
+	@Setter
+	public static class Bcrypt {
+		// 모든 인스턴스가 같은 cost로 해시하도록 운영에서는 이 고정값을 사용합니다.
+		private int cost = 10;
+		// true이면 cost 대신 시작 시 해시 1회가 target-millis 안에 끝나는 가장 큰 cost를 선택합니다.
+		// 인스턴스마다 결과가 달라 서로의 해시를 다시 저장할 수 있으므로, 적정 cost를 찾을 때만 켭니다.
+		private boolean calibrate = false;
+		private long targetMillis = 250;
+		private int minCost = 10;
+		private int maxCost = 14;
+	}
+}
@@ -0,0 +1,22 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 가입된 전화번호 Bloom filter 설정 (phone-filter.*)
+ * filter는 인스턴스마다 따로 있고 그 인스턴스의 가입만 반영하므로, 인스턴스가 하나인 배포에서만 켭니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "phone-filter")
+public class PhoneFilterProperties {
+	private boolean enabled = false;
+	private long expectedUsers = 1_000_000;
+	private double falsePositiveRate = 0.01;
+	// 가입이 expected-users를 넘었는지 확인하는 주기 (넘었을 때만 전체를 다시 읽어 크게 만듦)
+	private long rebuildIntervalMinutes = 10;
+}
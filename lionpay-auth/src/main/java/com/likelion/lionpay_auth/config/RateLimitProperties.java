@@ -0,0 +1,50 @@
+package com.likelion.lionpay_auth.config;
+
+import com.likelion.lionpay_auth.enums.RateLimitPolicy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 인증 API 요청 제한 설정 (rate-limit.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+	private boolean enabled = false;
+	// 이 시간 동안 사용되지 않은 버킷은 제거합니다. (가득 찬 버킷과 새 버킷은 동일하므로 결과에 영향 없음)
+	private long idleTimeoutMinutes = 10;
+	private Map<RateLimitPolicy, Limit> policies = defaultPolicies();
+
+	/**
+	 * 토큰 버킷 크기(순간 허용량)와 분당 충전량
+	 */
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	@AllArgsConstructor
+	public static class Limit {
+		private int capacity;
+		private double refillPerMinute;
+	}
+
+	private static Map<RateLimitPolicy, Limit> defaultPolicies() {
+		Map<RateLimitPolicy, Limit> policies = new EnumMap<>(RateLimitPolicy.class);
+		policies.put(RateLimitPolicy.SIGN_IN_PHONE, new Limit(5, 5));
+		policies.put(RateLimitPolicy.SIGN_IN_IP, new Limit(30, 30));
+		policies.put(RateLimitPolicy.SIGN_UP_PHONE, new Limit(3, 1));
+		policies.put(RateLimitPolicy.SIGN_UP_IP, new Limit(10, 10));
+		policies.put(RateLimitPolicy.REFRESH_IP, new Limit(60, 60));
+		policies.put(RateLimitPolicy.ADMIN_SIGN_IN_USERNAME, new Limit(5, 5));
+		policies.put(RateLimitPolicy.ADMIN_SIGN_IN_IP, new Limit(20, 20));
+		return policies;
+	}
+}
@@ -0,0 +1,19 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 리프레시 토큰 저장 설정 (refresh-token.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "refresh-token")
+public class RefreshTokenProperties {
+	// 토큰 해시 키로 찾지 못하면 이전 형식(USER#<subject> / REFRESH_TOKEN) 항목도 확인합니다.
+	// 이전 형식으로 발급된 토큰이 모두 만료된 뒤(refresh-token-expiration-days 이후)에는 꺼도 됩니다.
+	private boolean readLegacyLayout = true;
+}
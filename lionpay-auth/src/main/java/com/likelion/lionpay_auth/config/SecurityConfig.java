@@ -1,7 +1,11 @@
 package com.likelion.lionpay_auth.config;
 
+import com.likelion.lionpay_auth.security.BcryptCostCalibrator;
+import com.likelion.lionpay_auth.security.BoundedPasswordEncoder;
 import com.likelion.lionpay_auth.security.JwtAuthenticationEntryPoint;
 import com.likelion.lionpay_auth.security.JwtAuthenticationFilter;
+import com.likelion.lionpay_auth.security.PublicRoutes;
+import io.opentelemetry.api.metrics.Meter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -13,16 +17,21 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, prePostEnabled = true)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+	private static final String BCRYPT_ID = "bcrypt";
+
 	private final JwtAuthenticationFilter jwtAuthenticationFilter;
 	private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 
@@ -38,29 +47,9 @@ public class SecurityConfig {
 				.authorizeHttpRequests(auth -> auth
 						// Forward 요청 허용 (WebMvcConfig의 forward를 위해 필요)
 						.dispatcherTypeMatchers(jakarta.servlet.DispatcherType.FORWARD).permitAll()
-						// Swagger/OpenAPI 경로 허용
-						.requestMatchers(
-								"/swagger.html")
-						.permitAll()
-						.requestMatchers(
-								"/openapi/**",
-								"/swagger-ui/**",
-								"/swagger.html",
-								"/actuator/health",
-								"/actuator/**")
-						.permitAll()
-						.requestMatchers(
-								// 인증 API 경로
-								"/v1/auth/sign-up",
-								"/v1/auth/sign-in",
-								"/v1/auth/sign-out",
-								"/v1/auth/refresh-token",
-								"/v1/auth/health",
-								"/v1/auth/info")
-						.permitAll()
-						// 관리자 토큰 재발급 경로
-						.requestMatchers("/v1/admin/refresh-token").permitAll()
-						.requestMatchers("/v1/admin/sign-in").permitAll()
+						// Swagger/OpenAPI, 헬스 체크, 인증 API 등 공개 경로 (JwtAuthenticationFilter도 같은 목록으로 토큰 처리를 생략)
+						.requestMatchers(PublicRoutes.DOCS_AND_HEALTH).permitAll()
+						.requestMatchers(PublicRoutes.AUTH).permitAll()
 						.requestMatchers("/v1/admin/new").hasRole("SUPER_ADMIN")
 						.requestMatchers("/v1/admin/admins/**").hasRole("SUPER_ADMIN")
 						.requestMatchers("/v1/admin/admins").hasRole("SUPER_ADMIN")
@@ -96,8 +85,18 @@ public class SecurityConfig {
 		return configuration.getAuthenticationManager();
 	}
 
+	/**
+	 * 새 해시는 "{bcrypt}$2a$<cost>$..." 형식으로 알고리즘과 cost를 함께 기록합니다.
+	 * cost는 설정된 고정값(보정을 켠 경우에만 시작 시 측정값)을 쓰며, 접두사가 없는 기존 해시도 그대로 검증됩니다.
+	 * 로그인 시 upgradeEncoding()이 true인 해시(접두사 없음, 낮은 cost)는 새 정책으로 다시 저장합니다.
+	 * BCrypt 해시는 요청 스레드가 아닌 크기 제한 전용 스레드 풀에서 실행합니다.
+	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(PasswordHashingProperties passwordHashingProperties, Meter meter) {
+		int cost = BcryptCostCalibrator.calibrate(passwordHashingProperties.getBcrypt());
+		DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder(BCRYPT_ID,
+				Map.of(BCRYPT_ID, new BCryptPasswordEncoder(cost)));
+		delegating.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+		return new BoundedPasswordEncoder(delegating, passwordHashingProperties, meter);
 	}
 }
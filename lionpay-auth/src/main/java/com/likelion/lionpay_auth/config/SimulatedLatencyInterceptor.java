@@ -0,0 +1,46 @@
+package com.likelion.lionpay_auth.config;
+
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 부하 테스트용으로 DynamoDB 요청마다 min~max ms의 지연을 추가하는 인터셉터.
+ * 로컬 DynamoDB는 응답이 매우 빨라 스레드 모델 차이가 드러나지 않으므로, 실제 네트워크 지연을 흉내 냅니다.
+ * 지연은 호출 스레드에서 sleep으로 발생하므로 가상 스레드에서는 캐리어 스레드를 점유하지 않습니다.
+ */
+public class SimulatedLatencyInterceptor implements ExecutionInterceptor {
+
+	private final long minMillis;
+	private final long maxMillis;
+
+	public SimulatedLatencyInterceptor(long minMillis, long maxMillis) {
+		this.minMillis = minMillis;
+		this.maxMillis = maxMillis;
+	}
+
+	/**
+	 * "20-50" 또는 "30" 형식의 설정 값을 해석합니다.
+	 */
+	public static SimulatedLatencyInterceptor parse(String value) {
+		String[] range = value.trim().split("-", 2);
+		long min = Long.parseLong(range[0].trim());
+		long max = range.length == 2 ? Long.parseLong(range[1].trim()) : min;
+		if (min < 0 || max < min) {
+			throw new IllegalArgumentException("aws.dynamodb.simulated-latency 형식이 올바르지 않습니다: " + value);
+		}
+		return new SimulatedLatencyInterceptor(min, max);
+	}
+
+	@Override
+	public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+		long delay = minMillis == maxMillis ? minMillis : ThreadLocalRandom.current().nextLong(minMillis, maxMillis + 1);
+		try {
+			Thread.sleep(delay);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,19 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 조회 캐시 설정 (user-cache.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user-cache")
+public class UserCacheProperties {
+	private boolean enabled = false;
+	private int maxSize = 10000;
+	private long ttlSeconds = 60;
+}
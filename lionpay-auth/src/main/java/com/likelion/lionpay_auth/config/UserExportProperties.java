@@ -0,0 +1,23 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 사용자 내보내기 설정 (user-export.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user-export")
+public class UserExportProperties {
+	// 병렬 Scan 세그먼트 수. 내보내기 하나가 세그먼트마다 작업 스레드 하나를 사용합니다.
+	private int segments = 8;
+	// 동시에 실행할 수 있는 내보내기 수. 작업 스레드 풀 크기는 segments × maxConcurrentExports입니다.
+	private int maxConcurrentExports = 1;
+	// 스캔한 행을 응답에 쓰기 전까지 담아 두는 버퍼 크기. 가득 차면 스캔이 응답 쓰기 속도에 맞춰 기다립니다.
+	private int bufferSize = 1000;
+	private long retryAfterSeconds = 60;
+}
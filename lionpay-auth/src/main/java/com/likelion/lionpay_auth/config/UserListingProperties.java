@@ -0,0 +1,20 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관리자 사용자 목록 GSI(byListShard) 설정 (user-listing.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user-listing")
+public class UserListingProperties {
+	// 사용자를 나누어 담을 인덱스 파티션 수. 기존 사용자의 샤드는 바뀌지 않으므로 늘릴 수만 있습니다.
+	private int shards = 8;
+	// 샤드 번호가 없는 기존 사용자에게 시작 시 샤드 번호를 채웁니다.
+	private boolean backfillOnStartup = true;
+}
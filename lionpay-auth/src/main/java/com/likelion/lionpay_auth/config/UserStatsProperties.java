@@ -0,0 +1,22 @@
+package com.likelion.lionpay_auth.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 집계 항목 설정 (user-stats.*)
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "user-stats")
+public class UserStatsProperties {
+	// 집계 쓰기를 나누어 받을 항목 수. 읽을 때는 모든 샤드를 BatchGetItem 한 번으로 읽습니다. (최대 99)
+	private int shards = 8;
+	// 관리자 통계 API가 돌려주는 일별 가입 수 기간
+	private int dailySignUpDays = 30;
+	// 집계 도입 이전 사용자를 세어 둔 기준 항목이 없으면 시작 시 한 번 만듭니다.
+	private boolean backfillOnStartup = true;
+}
@@ -2,15 +2,24 @@ package com.likelion.lionpay_auth.controller;
 
 import com.likelion.lionpay_auth.dto.*;
 import com.likelion.lionpay_auth.entity.AdminEntity;
+import com.likelion.lionpay_auth.enums.RateLimitPolicy;
+import com.likelion.lionpay_auth.security.AuthRateLimiter;
 import com.likelion.lionpay_auth.security.JwtAuthentication;
 import com.likelion.lionpay_auth.service.AdminUserService;
 import com.likelion.lionpay_auth.service.AdminAuthService;
+import com.likelion.lionpay_auth.service.UserExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 @RestController
 @RequestMapping("/v1/admin")
 @RequiredArgsConstructor
@@ -18,17 +27,24 @@ public class AdminController {
 
     private final AdminAuthService adminAuthService;
     private final AdminUserService adminUserService;
+    private final UserExportService userExportService;
+    private final AuthRateLimiter rateLimiter;
 
     @PostMapping("/sign-in")
-    public ResponseEntity<TokenResponse> signIn(@Valid @RequestBody AdminSignInRequest req) {
+    public ResponseEntity<TokenResponse> signIn(@Valid @RequestBody AdminSignInRequest req,
+            HttpServletRequest httpRequest) {
+        rateLimiter.acquire(RateLimitPolicy.ADMIN_SIGN_IN_IP, httpRequest.getRemoteAddr());
+        rateLimiter.acquire(RateLimitPolicy.ADMIN_SIGN_IN_USERNAME, req.username());
         return ResponseEntity.ok(adminAuthService.signIn(req));
     }
 
     @PostMapping("/sign-out")
     public ResponseEntity<Void> signOut(
             @AuthenticationPrincipal JwtAuthentication principal,
+            @RequestHeader(value = "Authorization", required = false) String authHeader,
             @Valid @RequestBody SignOutRequest req) {
-        adminAuthService.logout(principal.adminId(), req.getRefreshToken());
+        String accessToken = authHeader != null && authHeader.startsWith("Bearer ") ? authHeader.substring(7) : null;
+        adminAuthService.logout(principal.adminId(), req.getRefreshToken(), accessToken);
         return ResponseEntity.ok().build();
     }
 
@@ -48,25 +64,47 @@ public class AdminController {
     /**
      * 관리자가 사용자를 조회하는 API입니다.
      * phone 또는 userId로 단일 조회하거나, 파라미터가 없으면 전체 목록을 페이징하여 조회합니다.
+     * 전체 목록의 다음 페이지는 이전 응답의 lastKey를 그대로 전달해 조회합니다.
      */
     @GetMapping("/users")
     public ResponseEntity<?> getUsers(
             @RequestParam(required = false) String phone,
             @RequestParam(required = false) String userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String lastKey) {
 
         if (phone != null || userId != null) {
             // 단일 사용자 조회
             AdminUserResponse userResponse = adminUserService.findUser(phone, userId);
             return ResponseEntity.ok(userResponse);
         } else {
-            // 전체 사용자 목록 조회 (페이징)
-            AdminUserListResponse userListResponse = adminUserService.findAllUsers(page, size);
+            // 전체 사용자 목록 조회 (가입일 최신순, 다음 페이지는 이전 응답의 lastKey로 조회)
+            AdminUserListResponse userListResponse = adminUserService.findAllUsers(page, size, lastKey);
             return ResponseEntity.ok(userListResponse);
         }
     }
 
+    /**
+     * 전체 사용자 수, 상태별 사용자 수, 최근 일별 가입 수를 조회합니다.
+     */
+    @GetMapping("/users/stats")
+    public ResponseEntity<AdminUserStatsResponse> getUserStats() {
+        return ResponseEntity.ok(adminUserService.getUserStats());
+    }
+
+    /**
+     * 전체 사용자를 NDJSON(한 줄에 사용자 하나)으로 내려받습니다.
+     * 전체를 메모리에 모으지 않고 읽는 대로 응답에 씁니다.
+     */
+    @GetMapping("/users/export")
+    public void exportUsers(HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.ndjson\"");
+        userExportService.export(response.getOutputStream());
+    }
+
     /**
      * 관리자 목록을 조회합니다 (SUPER_ADMIN만 가능).
      */
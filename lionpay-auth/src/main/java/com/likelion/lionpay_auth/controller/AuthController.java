@@ -1,7 +1,11 @@
 package com.likelion.lionpay_auth.controller;
 
 import com.likelion.lionpay_auth.dto.*;
+import com.likelion.lionpay_auth.enums.RateLimitPolicy;
+import com.likelion.lionpay_auth.security.AuthRateLimiter;
 import com.likelion.lionpay_auth.service.AuthService;
+import com.likelion.lionpay_auth.service.TokenIntrospectionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -14,15 +18,23 @@ import org.springframework.web.bind.annotation.*;
 public class AuthController {
 
 	private final AuthService authService;
+	private final TokenIntrospectionService tokenIntrospectionService;
+	private final AuthRateLimiter rateLimiter;
 
-	public AuthController(AuthService authService) {
+	public AuthController(AuthService authService, TokenIntrospectionService tokenIntrospectionService,
+			AuthRateLimiter rateLimiter) {
 		this.authService = authService;
+		this.tokenIntrospectionService = tokenIntrospectionService;
+		this.rateLimiter = rateLimiter;
 	}
 
 	// 🚨 수정된 부분: 반환 타입을 Map으로 변경하고 토큰을 반환합니다.
 	@PostMapping("/sign-up")
-	public ResponseEntity<TokenResponse> signUp(@Valid @RequestBody SignUpRequest request) {
+	public ResponseEntity<TokenResponse> signUp(@Valid @RequestBody SignUpRequest request,
+			HttpServletRequest httpRequest) {
 		log.info("회원가입 요청 수신: {}", request);
+		rateLimiter.acquire(RateLimitPolicy.SIGN_UP_IP, httpRequest.getRemoteAddr());
+		rateLimiter.acquire(RateLimitPolicy.SIGN_UP_PHONE, request.getPhone());
 
 		// 수정된 AuthService.signUp 호출
 		SignInResponse signInResponse = authService.signUp(request);
@@ -33,8 +45,12 @@ public class AuthController {
 	}
 
 	@PostMapping("/sign-in")
-	public ResponseEntity<TokenResponse> signIn(@Valid @RequestBody SignInRequest request) {
+	public ResponseEntity<TokenResponse> signIn(@Valid @RequestBody SignInRequest request,
+			HttpServletRequest httpRequest) {
 		log.info("로그인 요청 수신: phone={}", request.getPhone());
+		// 비밀번호 해시(BCrypt) 전에 IP, 전화번호별 시도 횟수를 제한합니다.
+		rateLimiter.acquire(RateLimitPolicy.SIGN_IN_IP, httpRequest.getRemoteAddr());
+		rateLimiter.acquire(RateLimitPolicy.SIGN_IN_PHONE, request.getPhone());
 		SignInResponse signInResponse = authService.signIn(request);
 
 		return ResponseEntity.ok(new TokenResponse(signInResponse.getAccessToken(), signInResponse.getRefreshToken()));
@@ -63,11 +79,24 @@ public class AuthController {
 	// suggestion: 요청 본문을 String 대신 DTO로 받아 JSON 파싱을 Spring에 위임하고, 유효성 검사를 추가하여 안정성을
 	// 높이세요.
 	@PostMapping("/refresh-token")
-	public ResponseEntity<TokenResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request) {
+	public ResponseEntity<TokenResponse> refreshToken(@Valid @RequestBody RefreshTokenRequest request,
+			HttpServletRequest httpRequest) {
 		log.info("토큰 재발급 요청 수신");
+		rateLimiter.acquire(RateLimitPolicy.REFRESH_IP, httpRequest.getRemoteAddr());
 
 		SignInResponse signInResponse = authService.refreshAccessToken(request.getRefreshToken());
 
 		return ResponseEntity.ok(new TokenResponse(signInResponse.getAccessToken(), signInResponse.getRefreshToken()));
 	}
+
+	/**
+	 * 내부 서비스용 액세스 토큰 일괄 검증 API입니다.
+	 * 토큰마다 유효 여부와 클레임을 요청 순서대로 반환합니다.
+	 */
+	@PostMapping("/introspect")
+	public ResponseEntity<IntrospectResponse> introspect(
+			@RequestHeader(value = "X-Internal-Api-Key", required = false) String apiKey,
+			@Valid @RequestBody IntrospectRequest request) {
+		return ResponseEntity.ok(tokenIntrospectionService.introspect(apiKey, request.tokens()));
+	}
 }
@@ -0,0 +1,46 @@
+package com.likelion.lionpay_auth.controller;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.service.JwtKeySet;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 다른 서비스가 토큰을 로컬에서 검증할 수 있도록 서명 공개키(JWKS)를 제공합니다.
+ * 응답은 미리 직렬화된 값이며, Cache-Control과 ETag로 캐시하도록 합니다.
+ */
+@RestController
+@RequiredArgsConstructor
+public class JwksController {
+
+    private final JwtKeySet jwtKeySet;
+    private final JwtProperties jwtProperties;
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> getJwks(
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        CacheControl cacheControl = CacheControl
+                .maxAge(jwtProperties.getSigning().getJwksMaxAgeSeconds(), TimeUnit.SECONDS)
+                .cachePublic();
+
+        if (jwtKeySet.getJwksEtag().equals(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .cacheControl(cacheControl)
+                    .eTag(jwtKeySet.getJwksEtag())
+                    .build();
+        }
+
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .eTag(jwtKeySet.getJwksEtag())
+                .body(jwtKeySet.getJwksJson());
+    }
+}
@@ -4,7 +4,7 @@ import java.util.List;
 
 /**
  * 관리자가 사용자 목록을 조회할 때의 페이징된 응답 형식을 정의합니다.
- * DynamoDB 스캔 페이지네이션을 지원하기 위해 lastKey 필드를 포함합니다.
+ * 다음 페이지 조회를 위한 커서(lastKey)를 포함하며, 마지막 페이지면 null입니다.
  */
 public record AdminUserListResponse(
                 int page,
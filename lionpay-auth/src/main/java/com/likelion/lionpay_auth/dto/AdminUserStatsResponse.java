@@ -0,0 +1,16 @@
+package com.likelion.lionpay_auth.dto;
+
+import java.util.Map;
+
+/**
+ * 관리자 사용자 통계 응답 형식을 정의합니다.
+ *
+ * @param totalCount    전체 사용자 수
+ * @param countByStatus 상태별 사용자 수
+ * @param dailySignUps  최근 기간의 날짜(UTC, yyyy-MM-dd)별 가입 수
+ */
+public record AdminUserStatsResponse(
+        long totalCount,
+        Map<String, Long> countByStatus,
+        Map<String, Long> dailySignUps) {
+}
@@ -0,0 +1,16 @@
+package com.likelion.lionpay_auth.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * 여러 액세스 토큰을 한 번에 검증하기 위한 내부 API 요청입니다.
+ */
+public record IntrospectRequest(
+		@NotEmpty(message = "검증할 토큰 목록은 필수입니다.")
+		@Size(max = 100, message = "한 번에 최대 100개의 토큰만 검증할 수 있습니다.")
+		List<@NotBlank String> tokens) {
+}
@@ -0,0 +1,44 @@
+package com.likelion.lionpay_auth.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+
+import java.util.List;
+
+/**
+ * 토큰 일괄 검증 결과입니다. results는 요청의 tokens와 같은 순서입니다.
+ */
+public record IntrospectResponse(List<TokenIntrospection> results) {
+
+	/**
+	 * 토큰 하나의 검증 결과. active가 false이면 나머지 필드는 포함되지 않습니다. (RFC 7662 형식)
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	public record TokenIntrospection(
+			boolean active,
+			String sub,
+			String iss,
+			String aud,
+			String role,
+			String username,
+			Long exp) {
+
+		private static final TokenIntrospection INACTIVE = new TokenIntrospection(false, null, null, null, null, null,
+				null);
+
+		public static TokenIntrospection inactive() {
+			return INACTIVE;
+		}
+
+		public static TokenIntrospection from(VerifiedClaims claims) {
+			return new TokenIntrospection(
+					true,
+					claims.subject(),
+					claims.issuer(),
+					claims.audience(),
+					claims.role(),
+					claims.username(),
+					claims.expiresAt() != null ? claims.expiresAt().getEpochSecond() : null);
+		}
+	}
+}
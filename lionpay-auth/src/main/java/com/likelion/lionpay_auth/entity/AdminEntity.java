@@ -4,6 +4,7 @@ import com.likelion.lionpay_auth.enums.AdminRole;
 import lombok.Getter;
 import lombok.Setter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
 
 @Getter
 @Setter
@@ -16,4 +17,11 @@ public class AdminEntity extends BaseEntity {
     private String name;
     private String createdAt;
     private AdminRole role;
+
+    // 관리자 항목에만 있는 속성이므로 두 GSI 모두 관리자 항목만 담는 sparse 인덱스가 됩니다.
+    @DynamoDbSecondaryPartitionKey(indexNames = "byAdminId")
+    public String getAdminId() { return adminId; }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = "byRole")
+    public AdminRole getRole() { return role; }
 }
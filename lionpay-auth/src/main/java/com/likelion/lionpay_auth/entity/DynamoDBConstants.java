@@ -10,4 +10,15 @@ public final class DynamoDBConstants {
     public static final String ADMIN_PREFIX = "ADMIN#";
     public static final String INFO_SK = "INFO";
     public static final String REFRESH_TOKEN_SK = "REFRESH_TOKEN";
+    // 리프레시 토큰: PK는 REFRESH_TOKEN#<토큰의 SHA-256(Base64 URL)>, SK는 REFRESH_TOKEN
+    public static final String REFRESH_TOKEN_PREFIX = "REFRESH_TOKEN#";
+    // 폐기된 액세스 토큰: PK는 만료 시각의 시간 단위 버킷, SK는 jti
+    public static final String REVOKED_TOKEN_PREFIX = "REVOKED_TOKEN#";
+    // 폐기 로그: PK는 폐기 시각의 시간 단위 버킷, SK는 폐기 시각(밀리초, 13자리)#jti
+    public static final String REVOCATION_LOG_PREFIX = "REVOCATION_LOG#";
+    // 사용자 집계: PK는 USER_STATS#<샤드 번호> 또는 USER_STATS#BASE, SK는 INFO
+    public static final String USER_STATS_PREFIX = "USER_STATS#";
+    public static final String USER_STATS_BASE = "BASE";
+    // DynamoDB TTL 속성 이름 (epoch seconds, Number 타입)
+    public static final String TTL_ATTRIBUTE = "ttl";
 }
\ No newline at end of file
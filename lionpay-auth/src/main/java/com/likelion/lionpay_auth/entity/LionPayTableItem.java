@@ -5,6 +5,8 @@ import lombok.Getter;
 import lombok.Setter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
 
 /**
  * DynamoDB 단일 테이블의 전체 스키마를 정의하는 마스터 엔티티 클래스입니다.
@@ -23,6 +25,7 @@ public class LionPayTableItem extends BaseEntity {
     private String status;
     private String createdAt;
     private String updatedAt;
+    private String listShard;
 
     // AdminEntity 속성
     private String adminId;
@@ -33,8 +36,38 @@ public class LionPayTableItem extends BaseEntity {
     // RefreshTokenEntity 속성
     private String token;
     private String expiresAt;
+    private String ownerPk;
+    private String ownerName;
+    private String ownerStatus;
+    private String ownerRole;
 
-    // RefreshTokenEntity의 GSI 정의
-    @DynamoDbSecondaryPartitionKey(indexNames = "byRefreshToken")
-    public String getToken() { return token; }
+    // RevokedTokenEntity 속성
+    private String subject;
+    private String tokenId;
+    private String revokedAt;
+    private Long revokedAtMillis;
+    private Long ttl;
+
+    // User, RefreshTokenEntity의 GSI 정의: userId + sk(INFO 또는 REFRESH_TOKEN)로 항목의 키를 조회 (KEYS_ONLY)
+    @DynamoDbSecondaryPartitionKey(indexNames = "byUserId")
+    public String getUserId() { return userId; }
+
+    // AdminEntity의 GSI 정의: adminId로 관리자 항목의 키를 조회 (KEYS_ONLY), 역할별 관리자 목록 (ALL)
+    @DynamoDbSecondaryPartitionKey(indexNames = "byAdminId")
+    public String getAdminId() { return adminId; }
+
+    @DynamoDbSecondaryPartitionKey(indexNames = "byRole")
+    public AdminRole getRole() { return role; }
+
+    // User의 사용자 목록 GSI 정의: 샤드 번호별로 가입일(createdAt) 순 정렬 (INCLUDE)
+    @DynamoDbSecondaryPartitionKey(indexNames = "byListShard")
+    public String getListShard() { return listShard; }
+
+    @DynamoDbSecondarySortKey(indexNames = "byListShard")
+    public String getCreatedAt() { return createdAt; }
+
+    @Override
+    @DynamoDbSortKey
+    @DynamoDbSecondarySortKey(indexNames = "byUserId")
+    public String getSk() { return super.getSk(); }
 }
\ No newline at end of file
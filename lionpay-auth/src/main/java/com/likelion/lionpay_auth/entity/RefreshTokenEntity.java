@@ -4,6 +4,8 @@ import lombok.Getter;
 import lombok.Setter;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
 
 @Getter
 @Setter
@@ -11,10 +13,22 @@ import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecon
 public class RefreshTokenEntity extends BaseEntity {
 
 	private String userId; // adminId or userId
-	private String token; // 실제 토큰 값은 별도 속성으로 저장
+	private String token; // 이전 형식(USER#<id> / REFRESH_TOKEN) 항목에만 있는 토큰 원문. 새 항목은 PK의 해시로 찾습니다.
 	private String createdAt;
 	private String expiresAt; // Unix timestamp string
+	private String ownerPk; // 토큰 소유자 항목의 PK (USER#<phone> 또는 ADMIN#<username>)
+	// 재발급 시 소유자를 다시 읽지 않도록 액세스 토큰에 필요한 소유자 정보를 함께 둡니다.
+	// 교체 트랜잭션이 소유자 항목과 같은지 확인하므로 오래된 값으로 토큰을 발급하지 않습니다.
+	private String ownerName; // 사용자 이름
+	private String ownerStatus; // 사용자 상태
+	private String ownerRole; // 관리자 역할
 
-	@DynamoDbSecondaryPartitionKey(indexNames = "byRefreshToken")
-	public String getToken() { return token; }
+	// 소유자의 토큰 키 조회: byUserId GSI의 userId + sk(REFRESH_TOKEN)
+	@Override
+	@DynamoDbSortKey
+	@DynamoDbSecondarySortKey(indexNames = "byUserId")
+	public String getSk() { return super.getSk(); }
+
+	@DynamoDbSecondaryPartitionKey(indexNames = "byUserId")
+	public String getUserId() { return userId; }
 }
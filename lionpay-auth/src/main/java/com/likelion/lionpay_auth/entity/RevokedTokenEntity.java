@@ -0,0 +1,22 @@
+package com.likelion.lionpay_auth.entity;
+
+import lombok.Getter;
+import lombok.Setter;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
+
+/**
+ * 폐기된 액세스 토큰(jti). 토큰 만료 시각에 DynamoDB TTL로 자동 삭제됩니다.
+ * 폐기 항목 PK: REVOKED_TOKEN#{만료 시각의 시간 버킷}, SK: jti
+ * 폐기 로그 항목 PK: REVOCATION_LOG#{폐기 시각의 시간 버킷}, SK: {폐기 시각(밀리초)}#jti
+ */
+@Getter
+@Setter
+@DynamoDbBean
+public class RevokedTokenEntity extends BaseEntity {
+
+	private String tokenId; // jti
+	private String subject; // 토큰 주체 (userId 또는 adminId)
+	private String revokedAt;
+	private Long revokedAtMillis; // 폐기 로그 증분 조회 위치
+	private Long ttl; // 토큰 exp (epoch seconds)
+}
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbBean;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondaryPartitionKey;
+import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSecondarySortKey;
 import software.amazon.awssdk.enhanced.dynamodb.mapper.annotations.DynamoDbSortKey;
 
 import java.time.Instant;
@@ -25,6 +27,8 @@ public class User {
 	private String status;
 	private String createdAt;
 	private String updatedAt;
+	// 사용자 목록 GSI(byListShard)의 샤드 번호. 사용자 항목에만 있으므로 인덱스에는 사용자만 담깁니다.
+	private String listShard;
 
 	@DynamoDbPartitionKey
 	public String getPk() {
@@ -36,6 +40,7 @@ public class User {
 	}
 
 	@DynamoDbSortKey
+	@DynamoDbSecondarySortKey(indexNames = "byUserId")
 	public String getSk() {
 		return sk;
 	}
@@ -44,6 +49,7 @@ public class User {
 		this.sk = sk;
 	}
 
+	@DynamoDbSecondaryPartitionKey(indexNames = "byUserId")
 	public String getUserId() {
 		return userId;
 	}
@@ -84,6 +90,7 @@ public class User {
 		this.status = status;
 	}
 
+	@DynamoDbSecondarySortKey(indexNames = "byListShard")
 	public String getCreatedAt() {
 		return createdAt;
 	}
@@ -100,6 +107,15 @@ public class User {
 		this.updatedAt = updatedAt;
 	}
 
+	@DynamoDbSecondaryPartitionKey(indexNames = "byListShard")
+	public String getListShard() {
+		return listShard;
+	}
+
+	public void setListShard(String listShard) {
+		this.listShard = listShard;
+	}
+
 	public void prePersist() {
 
 		// suggestion: 단일 테이블 설계를 위해 PK와 SK를 설정합니다.
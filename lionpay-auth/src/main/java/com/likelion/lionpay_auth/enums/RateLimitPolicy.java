@@ -0,0 +1,11 @@
+package com.likelion.lionpay_auth.enums;
+
+/**
+ * 인증 API 요청 제한 정책. 이름은 제한 대상 API와 키 종류(phone, username, ip)를 나타냅니다.
+ */
+public enum RateLimitPolicy {
+    SIGN_IN_PHONE, SIGN_IN_IP,
+    SIGN_UP_PHONE, SIGN_UP_IP,
+    REFRESH_IP,
+    ADMIN_SIGN_IN_USERNAME, ADMIN_SIGN_IN_IP
+}
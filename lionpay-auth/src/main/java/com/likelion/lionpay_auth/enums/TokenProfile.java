@@ -0,0 +1,10 @@
+package com.likelion.lionpay_auth.enums;
+
+/**
+ * 토큰에 기록할 클레임 구성.
+ * STANDARD: sub, iss, aud, 추가 클레임, iat, exp (jjwt 빌더와 동일한 출력)
+ * COMPACT: iat를 생략하고, 리프레시 토큰은 aud도 생략합니다. 고정 클레임은 미리 인코딩한 템플릿을 사용합니다.
+ */
+public enum TokenProfile {
+    STANDARD, COMPACT
+}
@@ -0,0 +1,10 @@
+package com.likelion.lionpay_auth.enums;
+
+/**
+ * USER 액세스 토큰 인증 방식.
+ * LOOKUP: 요청마다 userId로 사용자를 조회합니다.
+ * CLAIMS: 토큰에 담긴 최소 프로필 클레임(phone, name, status)으로 인증하고, 전체 사용자 정보는 필요할 때만 조회합니다.
+ */
+public enum UserAuthMode {
+    LOOKUP, CLAIMS
+}
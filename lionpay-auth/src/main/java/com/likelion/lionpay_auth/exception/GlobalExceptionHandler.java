@@ -2,6 +2,7 @@ package com.likelion.lionpay_auth.exception;
 
 import com.likelion.lionpay_auth.dto.ErrorResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -122,4 +123,38 @@ public class GlobalExceptionHandler {
 		ErrorResponse response = new ErrorResponse("DUPLICATE_ADMIN", e.getMessage());
 		return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
 	}
+
+	// 11. 내부 API 키 오류 (401 Unauthorized)
+	@ExceptionHandler(InvalidApiKeyException.class)
+	public ResponseEntity<ErrorResponse> handleInvalidApiKeyException(InvalidApiKeyException e) {
+		ErrorResponse response = new ErrorResponse("INVALID_API_KEY", e.getMessage());
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+	}
+
+	// 12. 비밀번호 해시 대기열 포화 (503 Service Unavailable)
+	@ExceptionHandler(PasswordHashingOverloadedException.class)
+	public ResponseEntity<ErrorResponse> handlePasswordHashingOverloaded(PasswordHashingOverloadedException e) {
+		ErrorResponse response = new ErrorResponse("SERVICE_BUSY", e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(response);
+	}
+
+	// 13. 요청 제한 초과 (429 Too Many Requests)
+	@ExceptionHandler(RateLimitExceededException.class)
+	public ResponseEntity<ErrorResponse> handleRateLimitExceeded(RateLimitExceededException e) {
+		ErrorResponse response = new ErrorResponse("TOO_MANY_REQUESTS", e.getMessage());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(response);
+	}
+
+	// 14. 사용자 목록 인덱스 준비 중 (503 Service Unavailable)
+	@ExceptionHandler(UserListingUnavailableException.class)
+	public ResponseEntity<ErrorResponse> handleUserListingUnavailable(UserListingUnavailableException e) {
+		ErrorResponse response = new ErrorResponse("INDEX_NOT_READY", e.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+				.body(response);
+	}
 }
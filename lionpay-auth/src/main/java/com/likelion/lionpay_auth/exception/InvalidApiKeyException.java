@@ -0,0 +1,7 @@
+package com.likelion.lionpay_auth.exception;
+
+public class InvalidApiKeyException extends RuntimeException {
+	public InvalidApiKeyException(String message) {
+		super(message);
+	}
+}
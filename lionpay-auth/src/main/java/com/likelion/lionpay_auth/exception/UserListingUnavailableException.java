@@ -0,0 +1,16 @@
+package com.likelion.lionpay_auth.exception;
+
+import lombok.Getter;
+
+/**
+ * 사용자 목록 GSI(byListShard)가 아직 없거나 백필 중이어서 목록/내보내기를 제공할 수 없을 때 발생합니다.
+ */
+@Getter
+public class UserListingUnavailableException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public UserListingUnavailableException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
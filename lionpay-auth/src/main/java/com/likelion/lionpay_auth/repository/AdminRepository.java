@@ -2,33 +2,60 @@ package com.likelion.lionpay_auth.repository;
 
 import org.springframework.beans.factory.annotation.Value;
 import com.likelion.lionpay_auth.entity.DynamoDBConstants;
-import com.likelion.lionpay_auth.entity.User;
 import com.likelion.lionpay_auth.entity.AdminEntity;
 import com.likelion.lionpay_auth.enums.AdminRole;
 import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Repository
 public class AdminRepository {
 
     private final DynamoDbTable<AdminEntity> adminTable;
+    private final DynamoDbIndex<AdminEntity> byAdminIdIndex;
+    private final DynamoDbIndex<AdminEntity> byRoleIndex;
+    private final long directoryTtlNanos;
+
+    // findAll 결과 스냅샷(비밀번호 해시를 뺀 사본)과, save 때마다 증가하는 세대 번호
+    private volatile Directory directory;
+    private final AtomicLong directoryGeneration = new AtomicLong();
+
+    private record Directory(List<AdminEntity> admins, long expiresAtNanos) {
+        boolean isFresh(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
 
     // suggestion: 하드코딩된 숫자/문자열을 상수로 추출하세요. 테이블 이름을 설정 파일에서 주입받아 사용하면 유연성이 높아집니다.
     public AdminRepository(DynamoDbEnhancedClient enhancedClient,
-            @Value("${aws.dynamodb.table-name}") String tableName) {
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            @Value("${admin-directory.ttl-seconds:60}") long directoryTtlSeconds) {
         // suggestion: 단일 테이블의 전체 스키마를 정의하는 User.class를 기준으로 테이블을 인식하도록 수정합니다.
         // 실제 데이터 매핑은 AdminEntity로 이루어지지만, 테이블 구조 인식은 User 클래스를 따릅니다.
         this.adminTable = enhancedClient.table(tableName, TableSchema.fromBean(AdminEntity.class));
+        this.byAdminIdIndex = adminTable.index("byAdminId");
+        this.byRoleIndex = adminTable.index("byRole");
+        this.directoryTtlNanos = TimeUnit.SECONDS.toNanos(directoryTtlSeconds);
     }
 
     public void save(AdminEntity admin) {
         adminTable.putItem(admin);
+        updateDirectory(admin);
     }
 
     public Optional<AdminEntity> findByUsername(String username) {
@@ -40,35 +67,142 @@ public class AdminRepository {
                         .build()));
     }
 
+    /**
+     * username으로 관리자를 강한 일관성으로 읽습니다. (방금 바뀐 관리자 정보를 확인해야 할 때)
+     */
+    public Optional<AdminEntity> findByUsernameConsistent(String username) {
+        Key key = Key.builder()
+                .partitionValue(DynamoDBConstants.ADMIN_PREFIX + username)
+                .sortValue(DynamoDBConstants.INFO_SK)
+                .build();
+        return Optional.ofNullable(adminTable.getItem(r -> r.key(key).consistentRead(true)));
+    }
+
+    /**
+     * adminId로 관리자를 조회합니다.
+     * byAdminId GSI(KEYS_ONLY)에서 키를 찾은 뒤 기본 키로 항목을 읽습니다. (Query 1회 + GetItem 1회)
+     * 인덱스가 아직 없거나 백필 중이면 관리자 항목을 Scan해서 찾습니다.
+     */
     public Optional<AdminEntity> findByAdminId(String adminId) {
-        // adminId로 찾으려면 GSI가 필요하거나 Scan을 해야 함.
-        // 현재 스키마상 adminId는 속성일 뿐임.
-        // TODO: GSI 추가 고려 or Scan (현재는 Scan으로 구현)
-        return adminTable.scan().items().stream()
-                .filter(a -> adminId.equals(a.getAdminId()))
-                .findFirst();
+        QueryConditional query = QueryConditional.keyEqualTo(Key.builder().partitionValue(adminId).build());
+
+        return SecondaryIndexes.queryOrFallback("byAdminId",
+                () -> byAdminIdIndex.query(r -> r.queryConditional(query).limit(1)).stream()
+                        .flatMap(page -> page.items().stream())
+                        .findFirst()
+                        .map(keys -> adminTable.getItem(Key.builder()
+                                .partitionValue(keys.getPk())
+                                .sortValue(keys.getSk())
+                                .build())),
+                () -> scanAdmins().stream()
+                        .filter(admin -> adminId.equals(admin.getAdminId()))
+                        .findFirst());
     }
 
     /**
      * 특정 역할을 가진 관리자가 존재하는지 확인합니다.
-     * 경고: 이 메서드는 테이블 전체를 스캔하므로 성능에 유의해야 합니다.
-     * 
+     * byRole GSI에서 항목 하나만 읽습니다.
+     *
      * @param role 확인할 역할
      * @return 존재 여부
      */
     public boolean existsByRole(AdminRole role) {
-        return adminTable.scan().items().stream().anyMatch(admin -> role.equals(admin.getRole()));
+        return SecondaryIndexes.queryOrFallback("byRole",
+                () -> byRoleIndex.query(r -> r.queryConditional(roleEquals(role)).limit(1)).stream()
+                        .anyMatch(page -> !page.items().isEmpty()),
+                () -> scanAdmins().stream().anyMatch(admin -> role.equals(admin.getRole())));
     }
 
     /**
      * 모든 관리자 목록을 조회합니다.
-     * 경고: 이 메서드는 테이블 전체를 스캔하므로 성능에 유의해야 합니다.
-     * 
+     * 인스턴스 로컬 스냅샷이 유효하면 그대로 반환하고, 없으면 byRole GSI를 역할별로 조회해 새로 만듭니다.
+     * 이 인스턴스에서 저장한 관리자는 스냅샷에 바로 반영되고, 다른 인스턴스의 변경은 ttl 이후 반영됩니다.
+     * 반환하는 항목은 호출마다 새로 만든 사본이며 비밀번호 해시는 담지 않습니다. (byRole GSI에도 복제하지 않음)
+     *
      * @return 관리자 목록
      */
-    public java.util.List<AdminEntity> findAll() {
-        return adminTable.scan().items().stream()
-                .filter(item -> item.getPk() != null && item.getPk().startsWith(DynamoDBConstants.ADMIN_PREFIX))
-                .collect(java.util.stream.Collectors.toList());
+    public List<AdminEntity> findAll() {
+        Directory current = directory;
+        if (current != null && current.isFresh(System.nanoTime())) {
+            return copyOf(current.admins());
+        }
+
+        long generation = directoryGeneration.get();
+        List<AdminEntity> admins = SecondaryIndexes.queryOrFallback("byRole", () -> {
+            List<AdminEntity> byRole = new ArrayList<>();
+            for (AdminRole role : AdminRole.values()) {
+                byRoleIndex.query(r -> r.queryConditional(roleEquals(role))).stream()
+                        .forEach(page -> byRole.addAll(page.items()));
+            }
+            return byRole;
+        }, this::scanAdmins);
+        admins.replaceAll(AdminRepository::directoryEntry);
+        admins.sort(Comparator.comparing(AdminEntity::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        Directory loaded = new Directory(List.copyOf(admins), System.nanoTime() + directoryTtlNanos);
+        // 조회하는 동안 save가 있었다면 방금 읽은 결과가 이미 오래되었을 수 있으므로 스냅샷으로 보관하지 않습니다.
+        synchronized (this) {
+            if (directoryGeneration.get() == generation) {
+                directory = loaded;
+            }
+        }
+        return copyOf(loaded.admins());
+    }
+
+    /**
+     * 저장된 관리자를 스냅샷에 반영합니다.
+     * 스냅샷을 버리면 바로 다음 조회가 아직 GSI에 반영되지 않은 목록을 다시 읽을 수 있으므로, 같은 adminId 항목을 교체하거나 추가합니다.
+     */
+    private synchronized void updateDirectory(AdminEntity admin) {
+        directoryGeneration.incrementAndGet();
+        Directory current = directory;
+        if (current == null) {
+            return;
+        }
+        List<AdminEntity> admins = new ArrayList<>(current.admins());
+        admins.removeIf(a -> a.getAdminId() != null && a.getAdminId().equals(admin.getAdminId()));
+        admins.add(directoryEntry(admin));
+        directory = new Directory(List.copyOf(admins), current.expiresAtNanos());
+    }
+
+    /**
+     * 스냅샷에 보관할 사본. 호출한 쪽이 저장한 엔티티를 나중에 바꿔도 스냅샷에 영향이 없고, 비밀번호 해시는 담지 않습니다.
+     */
+    private static AdminEntity directoryEntry(AdminEntity admin) {
+        AdminEntity entry = new AdminEntity();
+        entry.setPk(admin.getPk());
+        entry.setSk(admin.getSk());
+        entry.setAdminId(admin.getAdminId());
+        entry.setUsername(admin.getUsername());
+        entry.setName(admin.getName());
+        entry.setCreatedAt(admin.getCreatedAt());
+        entry.setRole(admin.getRole());
+        return entry;
+    }
+
+    // 스냅샷의 항목은 여러 스레드가 공유하므로 호출한 쪽에는 사본을 돌려줍니다.
+    private static List<AdminEntity> copyOf(List<AdminEntity> admins) {
+        List<AdminEntity> copies = new ArrayList<>(admins.size());
+        admins.forEach(admin -> copies.add(directoryEntry(admin)));
+        return copies;
+    }
+
+    /**
+     * byAdminId, byRole GSI를 쓰기 전의 조회 방식. 인덱스를 읽을 수 없을 때만 사용합니다.
+     */
+    private List<AdminEntity> scanAdmins() {
+        Expression filterExpression = Expression.builder()
+                .expression("begins_with(pk, :prefix) AND sk = :sk_info")
+                .expressionValues(Map.of(
+                        ":prefix", AttributeValue.fromS(DynamoDBConstants.ADMIN_PREFIX),
+                        ":sk_info", AttributeValue.fromS(DynamoDBConstants.INFO_SK)))
+                .build();
+        return new ArrayList<>(adminTable.scan(ScanEnhancedRequest.builder().filterExpression(filterExpression).build())
+                .items().stream()
+                .toList());
+    }
+
+    private static QueryConditional roleEquals(AdminRole role) {
+        return QueryConditional.keyEqualTo(Key.builder().partitionValue(role.name()).build());
     }
 }
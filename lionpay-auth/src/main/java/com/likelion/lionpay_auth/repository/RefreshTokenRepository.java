@@ -1,5 +1,6 @@
 package com.likelion.lionpay_auth.repository;
 
+import com.likelion.lionpay_auth.config.RefreshTokenProperties;
 import com.likelion.lionpay_auth.entity.DynamoDBConstants;
 import com.likelion.lionpay_auth.entity.RefreshTokenEntity;
 import org.springframework.beans.factory.annotation.Value;
@@ -7,58 +8,326 @@ import org.springframework.stereotype.Repository;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
-import software.amazon.awssdk.enhanced.dynamodb.model.PageIterable;
+import software.amazon.awssdk.enhanced.dynamodb.model.BatchWriteResult;
+import software.amazon.awssdk.enhanced.dynamodb.model.ConditionCheck;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactDeleteItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.WriteBatch;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Repository
-public class RefreshTokenRepository {
+public class RefreshTokenRepository implements AutoCloseable {
 
+	// BatchWriteItem 한 번에 보낼 수 있는 최대 항목 수
+	private static final int BATCH_WRITE_LIMIT = 25;
+	private static final int MAX_BATCH_WRITE_ATTEMPTS = 5;
+	private static final long BACKOFF_BASE_MILLIS = 25;
+	private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+	private static final String TRANSACTION_CONFLICT = "TransactionConflict";
+	private static final Base64.Encoder KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final DynamoDbEnhancedClient client;
 	private final DynamoDbTable<RefreshTokenEntity> table;
-	private final DynamoDbIndex<RefreshTokenEntity> byRefreshTokenIndex;
+	private final DynamoDbIndex<RefreshTokenEntity> byUserIdIndex;
+	private final RefreshTokenProperties properties;
+	private final ExecutorService batchExecutor;
 
 	public RefreshTokenRepository(DynamoDbEnhancedClient client,
-								  @Value("${aws.dynamodb.table-name}") String tableName) {
+								  RefreshTokenProperties properties,
+								  @Value("${aws.dynamodb.table-name}") String tableName,
+								  @Value("${aws.dynamodb.batch-write-concurrency:4}") int batchWriteConcurrency) {
+		this.client = client;
+		this.properties = properties;
+		// 배치가 여러 개일 때 동시에 보낼 스레드. 토큰이 25개 이하이면 호출한 스레드에서 바로 처리합니다.
+		AtomicInteger sequence = new AtomicInteger();
+		this.batchExecutor = Executors.newFixedThreadPool(batchWriteConcurrency, runnable -> {
+			Thread thread = new Thread(runnable, "refresh-token-batch-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
 		// 1. 실제 데이터 매핑은 RefreshTokenEntity 클래스를 기준으로 테이블 객체를 생성합니다.
 		DynamoDbTable<RefreshTokenEntity> refreshTokenTable = client.table(tableName, TableSchema.fromBean(RefreshTokenEntity.class));
 		this.table = refreshTokenTable;
-		this.byRefreshTokenIndex = refreshTokenTable.index("byRefreshToken");
+		this.byUserIdIndex = refreshTokenTable.index("byUserId");
+	}
+
+	/**
+	 * 토큰 항목의 PK. 토큰 원문 대신 SHA-256 해시를 키로 쓰므로 토큰만으로 GetItem 할 수 있고 원문은 저장하지 않습니다.
+	 */
+	public static String partitionKeyOf(String token) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+			return DynamoDBConstants.REFRESH_TOKEN_PREFIX + KEY_ENCODER.encodeToString(digest);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+		}
 	}
 
 	public void save(RefreshTokenEntity token) {
 		table.putItem(token);
 	}
 
+	/**
+	 * 토큰 항목을 강한 일관성 GetItem으로 조회합니다.
+	 * 이전 형식 읽기가 켜져 있으면 해시 키에 없을 때 subject의 이전 형식 항목(USER#<subject> / REFRESH_TOKEN)을
+	 * 읽고 저장된 토큰 원문이 같을 때만 반환합니다.
+	 *
+	 * @param token   클라이언트가 제시한 리프레시 토큰
+	 * @param subject 토큰의 subject (userId 또는 adminId)
+	 */
+	public Optional<RefreshTokenEntity> findByToken(String token, String subject) {
+		RefreshTokenEntity hashed = getConsistent(partitionKeyOf(token));
+		if (hashed != null || !properties.isReadLegacyLayout() || subject == null) {
+			return Optional.ofNullable(hashed);
+		}
+		return Optional.ofNullable(getConsistent(DynamoDBConstants.USER_PREFIX + subject))
+				.filter(legacy -> token.equals(legacy.getToken()));
+	}
+
+	private RefreshTokenEntity getConsistent(String pk) {
+		Key key = Key.builder().partitionValue(pk).sortValue(DynamoDBConstants.REFRESH_TOKEN_SK).build();
+		return table.getItem(r -> r.key(key).consistentRead(true));
+	}
+
+	/**
+	 * 사용자의 리프레시 토큰을 모두 삭제합니다. (새 형식과 이전 형식 모두)
+	 * byUserId GSI(읽을 수 없으면 테이블 Scan)에서 키만 조회한 뒤 BatchWriteItem(25개 단위)으로 지우므로 토큰 수와 관계없이 왕복 횟수가 거의 일정합니다.
+	 */
 	public void deleteAllByUserId(String userId) {
-		// suggestion: AuthService에서 저장한 PK 형식과 일치하도록 DynamoDBConstants를 사용합니다.
-		String pk = DynamoDBConstants.USER_PREFIX + userId;
-		PageIterable<RefreshTokenEntity> pages = table.query(r -> r.queryConditional(
-				QueryConditional.keyEqualTo(Key.builder().partitionValue(pk).build())));
-		pages.items().forEach(table::deleteItem);
+		QueryConditional query = QueryConditional.keyEqualTo(Key.builder()
+				.partitionValue(userId)
+				.sortValue(DynamoDBConstants.REFRESH_TOKEN_SK)
+				.build());
+		List<RefreshTokenEntity> tokens = SecondaryIndexes.queryOrFallback("byUserId",
+				() -> byUserIdIndex.query(query).stream()
+						.flatMap(page -> page.items().stream())
+						.toList(),
+				() -> scanByUserId(userId));
+
+		List<Key> keys = new ArrayList<>(tokens.size());
+		tokens.forEach(token -> keys.add(Key.builder()
+				.partitionValue(token.getPk())
+				.sortValue(token.getSk())
+				.build()));
+		deleteAll(keys);
 	}
 
-	public Optional<RefreshTokenEntity> findByPkAndSk(String pk, String sk) {
-		Key key = Key.builder().partitionValue(pk).sortValue(sk).build();
-		return Optional.ofNullable(table.getItem(r -> r.key(key)));
+	/**
+	 * byUserId GSI를 읽을 수 없을 때 사용자의 토큰 키를 테이블 Scan으로 찾습니다.
+	 */
+	private List<RefreshTokenEntity> scanByUserId(String userId) {
+		Expression filterExpression = Expression.builder()
+				.expression("userId = :userId AND sk = :sk")
+				.expressionValues(Map.of(
+						":userId", AttributeValue.fromS(userId),
+						":sk", AttributeValue.fromS(DynamoDBConstants.REFRESH_TOKEN_SK)))
+				.build();
+		return table.scan(ScanEnhancedRequest.builder()
+						.filterExpression(filterExpression)
+						.attributesToProject("pk", "sk")
+						.build())
+				.items().stream()
+				.toList();
 	}
 
-	public void delete(RefreshTokenEntity tokenEntity) {
-		table.deleteItem(tokenEntity);
+	/**
+	 * 키 목록을 BatchWriteItem 한도(25개)로 나누어 삭제합니다.
+	 * 배치가 여러 개면 서로 독립적이므로 동시에 보내고, 처리되지 않은 항목은 지수 백오프로 다시 보냅니다.
+	 */
+	void deleteAll(List<Key> keys) {
+		if (keys.isEmpty()) {
+			return;
+		}
+		if (keys.size() <= BATCH_WRITE_LIMIT) {
+			deleteBatch(keys);
+			return;
+		}
+
+		List<CompletableFuture<Void>> batches = new ArrayList<>();
+		for (int from = 0; from < keys.size(); from += BATCH_WRITE_LIMIT) {
+			List<Key> batch = keys.subList(from, Math.min(from + BATCH_WRITE_LIMIT, keys.size()));
+			batches.add(CompletableFuture.runAsync(() -> deleteBatch(batch), batchExecutor));
+		}
+		try {
+			CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private void deleteBatch(List<Key> keys) {
+		List<Key> pending = keys;
+		for (int attempt = 0; ; attempt++) {
+			WriteBatch.Builder<RefreshTokenEntity> batch = WriteBatch.builder(RefreshTokenEntity.class).mappedTableResource(table);
+			pending.forEach(batch::addDeleteItem);
+			BatchWriteResult result = client.batchWriteItem(r -> r.addWriteBatch(batch.build()));
+
+			pending = result.unprocessedDeleteItemsForTable(table);
+			if (pending.isEmpty()) {
+				return;
+			}
+			if (attempt + 1 >= MAX_BATCH_WRITE_ATTEMPTS) {
+				throw new IllegalStateException("리프레시 토큰 " + pending.size() + "개를 삭제하지 못했습니다. (처리량 초과)");
+			}
+			backoff(attempt);
+		}
 	}
 
-	// Auth Repository compatibility: Delete by specific token string (requires
-	// finding it first)
-	public void deleteByToken(String token) {
-		findByRefreshToken(token).ifPresent(this::delete);
+	/**
+	 * 처리량 초과로 남은 항목을 다시 보내기 전에 기다립니다. (25ms, 50ms, 100ms ... + 지터)
+	 */
+	private static void backoff(int attempt) {
+		long delayMillis = BACKOFF_BASE_MILLIS << attempt;
+		try {
+			Thread.sleep(delayMillis + ThreadLocalRandom.current().nextLong(delayMillis));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("리프레시 토큰 삭제가 중단되었습니다.", e);
+		}
+	}
+
+	@Override
+	public void close() {
+		batchExecutor.shutdown();
+	}
+
+	/**
+	 * 토큰 교체 결과
+	 */
+	public enum RotationResult {
+		ROTATED,
+		// 토큰이 이미 교체되었거나 삭제됨 (같은 토큰으로 동시에 재발급한 경우 포함)
+		TOKEN_USED,
+		// 소유자 항목이 expectedOwner와 다름 (소유자 정보 변경 또는 삭제)
+		OWNER_CHANGED
+	}
+
+	/**
+	 * current 항목 삭제, replacement 저장, 소유자 항목 확인을 TransactWriteItems 한 번으로 처리합니다.
+	 * 토큰마다 키가 다르므로 삭제 조건(해시 항목은 존재, 이전 형식 항목은 토큰 원문 일치)으로 같은 토큰의 동시 재발급 중
+	 * 하나만 성공합니다. 소유자 항목(replacement.ownerPk / INFO)의 속성이 expectedOwner와 같을 때만 교체하므로,
+	 * 토큰 항목에 담아 둔 소유자 정보로 액세스 토큰을 만들어도 소유자를 다시 읽을 필요가 없습니다.
+	 *
+	 * @param current       findByToken으로 읽은 현재 토큰 항목
+	 * @param currentToken  클라이언트가 제시한 리프레시 토큰
+	 * @param replacement   새 토큰 항목 (ownerPk 필수)
+	 * @param expectedOwner 소유자 항목에 있어야 하는 속성 값 (값이 null이면 속성이 없어야 함)
+	 */
+	public RotationResult rotate(RefreshTokenEntity current, String currentToken, RefreshTokenEntity replacement,
+								 Map<String, String> expectedOwner) {
+		// 한 트랜잭션에서 같은 항목을 두 번 쓰면 DynamoDB가 요청 전체를 ValidationException으로 거부하므로 보내기 전에 막습니다.
+		// (리프레시 토큰에는 jti가 있어 정상적으로는 새 토큰의 키가 현재 토큰과 같을 수 없습니다.)
+		if (current.getPk().equals(replacement.getPk()) && current.getSk().equals(replacement.getSk())) {
+			throw new IllegalArgumentException("새 리프레시 토큰의 키가 현재 토큰과 같습니다.");
+		}
+		Expression stillCurrent = current.getToken() == null
+				? Expression.builder().expression("attribute_exists(pk)").build()
+				: Expression.builder()
+						.expression("#token = :current")
+						.expressionNames(Map.of("#token", "token"))
+						.expressionValues(Map.of(":current", AttributeValue.fromS(currentToken)))
+						.build();
+		try {
+			client.transactWriteItems(TransactWriteItemsEnhancedRequest.builder()
+					.addDeleteItem(table, TransactDeleteItemEnhancedRequest.builder()
+							.key(Key.builder().partitionValue(current.getPk()).sortValue(current.getSk()).build())
+							.conditionExpression(stillCurrent)
+							.build())
+					.addPutItem(table, replacement)
+					.addConditionCheck(table, ConditionCheck.builder()
+							.key(Key.builder()
+									.partitionValue(replacement.getOwnerPk())
+									.sortValue(DynamoDBConstants.INFO_SK)
+									.build())
+							.conditionExpression(ownerMatches(expectedOwner))
+							.build())
+					.build());
+			return RotationResult.ROTATED;
+		} catch (TransactionCanceledException e) {
+			if (!e.hasCancellationReasons()) {
+				throw e;
+			}
+			// 취소 사유는 요청 순서대로 담깁니다. (0: 기존 토큰 삭제, 1: 새 토큰 저장, 2: 소유자 확인)
+			// 같은 항목을 쓰는 다른 트랜잭션과 겹친 경우(TransactionConflict)도 조건 실패와 같이 처리합니다.
+			List<CancellationReason> reasons = e.cancellationReasons();
+			if (isConditionFailure(reasons.get(0))) {
+				return RotationResult.TOKEN_USED;
+			}
+			if (reasons.size() > 2 && isConditionFailure(reasons.get(2))) {
+				return RotationResult.OWNER_CHANGED;
+			}
+			throw e;
+		}
+	}
+
+	private static boolean isConditionFailure(CancellationReason reason) {
+		return CONDITIONAL_CHECK_FAILED.equals(reason.code()) || TRANSACTION_CONFLICT.equals(reason.code());
+	}
+
+	/**
+	 * 소유자 항목이 있고 각 속성이 기대한 값과 같은지 확인하는 조건식
+	 */
+	static Expression ownerMatches(Map<String, String> expectedOwner) {
+		StringBuilder expression = new StringBuilder("attribute_exists(pk)");
+		Map<String, String> names = new HashMap<>();
+		Map<String, AttributeValue> values = new HashMap<>();
+		int index = 0;
+		for (Map.Entry<String, String> attribute : expectedOwner.entrySet()) {
+			String name = "#o" + index;
+			names.put(name, attribute.getKey());
+			if (attribute.getValue() == null) {
+				expression.append(" AND attribute_not_exists(").append(name).append(")");
+			} else {
+				String value = ":o" + index;
+				values.put(value, AttributeValue.fromS(attribute.getValue()));
+				expression.append(" AND ").append(name).append(" = ").append(value);
+			}
+			index++;
+		}
+		Expression.Builder builder = Expression.builder().expression(expression.toString());
+		if (!names.isEmpty()) {
+			builder.expressionNames(names);
+		}
+		if (!values.isEmpty()) {
+			builder.expressionValues(values);
+		}
+		return builder.build();
+	}
+
+	public void delete(RefreshTokenEntity tokenEntity) {
+		table.deleteItem(tokenEntity);
 	}
 
-	public Optional<RefreshTokenEntity> findByRefreshToken(String refreshToken) {
-		QueryConditional query = QueryConditional.keyEqualTo(Key.builder().partitionValue(refreshToken).build());
-		return byRefreshTokenIndex.query(query).stream()
-				.findFirst()
-				.flatMap(page -> page.items().stream().findFirst());
+	/**
+	 * 토큰 하나를 삭제합니다. (로그아웃)
+	 */
+	public void deleteByToken(String token, String subject) {
+		findByToken(token, subject).ifPresent(this::delete);
 	}
 }
@@ -0,0 +1,131 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.config.PhoneFilterProperties;
+import com.likelion.lionpay_auth.support.BloomFilter;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 가입된 전화번호의 Bloom filter.
+ * 포함되지 않은 번호(크리덴셜 스터핑 트래픽의 대부분)는 DynamoDB 조회 없이 "없음"으로 판정합니다.
+ * 전체 번호를 읽어 채우기 전(시작 직후, 적재 실패)에는 판정하지 않고 항상 저장소를 조회하게 합니다.
+ * 시작 후에는 이 인스턴스에서 가입한 번호만 추가되므로 인스턴스가 하나인 배포에서만 사용해야 합니다.
+ * (여러 인스턴스에서 켜면 다른 인스턴스에서 가입한 번호를 "없음"으로 잘못 판정합니다.)
+ */
+@Component
+public class RegisteredPhoneFilter {
+
+	private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+
+	private final PhoneFilterProperties properties;
+	private final LongCounter checkCounter;
+
+	private volatile BloomFilter filter;
+	// 다음 재구성 때 쓸 예상 인원. 가입이 설정값을 넘으면 늘립니다.
+	private volatile long expectedUsers;
+	private volatile boolean ready;
+	// 재구성 중 추가된 번호. 새 filter로 교체한 뒤 다시 추가하여 누락을 막습니다.
+	private volatile Set<String> addedDuringRebuild;
+
+	public RegisteredPhoneFilter(PhoneFilterProperties properties, Meter meter) {
+		this.properties = properties;
+		this.expectedUsers = properties.getExpectedUsers();
+		this.filter = newFilter(expectedUsers);
+
+		this.checkCounter = meter.counterBuilder("auth.phone_filter.checks")
+				.setDescription("전화번호 Bloom filter 판정 횟수 (absent, maybe_present, false_positive)")
+				.setUnit("1")
+				.build();
+		meter.gaugeBuilder("auth.phone_filter.fill_ratio")
+				.setDescription("전화번호 Bloom filter의 비트 채움 비율")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(filter.fillRatio()));
+		meter.gaugeBuilder("auth.phone_filter.false_positive_rate")
+				.setDescription("전화번호 Bloom filter의 추정 거짓 양성 비율")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(filter.expectedFalsePositiveRate()));
+	}
+
+	public boolean isEnabled() {
+		return properties.isEnabled();
+	}
+
+	/**
+	 * @return true이면 가입되지 않은 번호가 확실함 (저장소 조회 불필요)
+	 */
+	public boolean isDefinitelyAbsent(String phone) {
+		if (!properties.isEnabled() || !ready) {
+			return false;
+		}
+		if (filter.mightContain(phone)) {
+			checkCounter.add(1, Attributes.of(RESULT, "maybe_present"));
+			return false;
+		}
+		checkCounter.add(1, Attributes.of(RESULT, "absent"));
+		return true;
+	}
+
+	/**
+	 * Bloom filter가 포함 가능성을 판정했지만 저장소에 없었던 경우를 기록합니다.
+	 */
+	public void recordFalsePositive() {
+		if (properties.isEnabled() && ready) {
+			checkCounter.add(1, Attributes.of(RESULT, "false_positive"));
+		}
+	}
+
+	/**
+	 * 가입이 예상 인원을 넘어 거짓 양성 비율이 올라갔으면 true (더 크게 다시 만들어야 함)
+	 */
+	public boolean isOverCapacity() {
+		return ready && filter.insertions() > expectedUsers;
+	}
+
+	public void add(String phone) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		// 재구성 중이면 먼저 기록해 두고, 그다음 현재 filter에 추가합니다. (교체 전후 어느 쪽이든 누락되지 않음)
+		Set<String> pending = addedDuringRebuild;
+		if (pending != null) {
+			pending.add(phone);
+		}
+		filter.put(phone);
+	}
+
+	/**
+	 * 저장소의 전체 번호로 새 Bloom filter를 만들어 교체합니다.
+	 *
+	 * @param phones 가입된 전체 전화번호
+	 */
+	public void rebuild(Stream<String> phones) {
+		Set<String> pending = ConcurrentHashMap.newKeySet();
+		addedDuringRebuild = pending;
+		BloomFilter rebuilt;
+		try {
+			rebuilt = newFilter(expectedUsers);
+			phones.forEach(rebuilt::put);
+			filter = rebuilt;
+		} finally {
+			addedDuringRebuild = null;
+		}
+		pending.forEach(rebuilt::put);
+		ready = true;
+
+		// 예상 인원을 넘으면 거짓 양성 비율이 올라가므로 다음 재구성부터 더 크게 만듭니다.
+		if (rebuilt.insertions() > expectedUsers) {
+			expectedUsers = rebuilt.insertions() * 2;
+		}
+	}
+
+	private BloomFilter newFilter(long expectedUsers) {
+		return new BloomFilter(expectedUsers, properties.getFalsePositiveRate());
+	}
+}
@@ -0,0 +1,140 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.entity.RevokedTokenEntity;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
+import software.amazon.awssdk.enhanced.dynamodb.Key;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 폐기된 액세스 토큰 저장소.
+ * 폐기 하나마다 두 항목을 한 트랜잭션으로 씁니다.
+ * <ul>
+ *     <li>폐기 항목: 토큰 만료 시각의 시간 버킷을 PK, jti를 SK로 하여 jti로 바로 GetItem 합니다.
+ *     아직 만료되지 않은 폐기 목록은 현재 이후의 버킷 몇 개만 Query하면 모두 얻을 수 있습니다. (액세스 토큰 수명 30분 기준 1~2개)</li>
+ *     <li>폐기 로그 항목: 폐기 시각의 시간 버킷을 PK, 폐기 시각(밀리초)#jti를 SK로 하여
+ *     마지막으로 읽은 시각 이후의 폐기만 Query 합니다. (인스턴스 간 증분 동기화)</li>
+ * </ul>
+ * 두 항목 모두 토큰 만료 시각에 DynamoDB TTL로 삭제됩니다.
+ */
+@Repository
+public class RevokedTokenRepository {
+
+	private static final long BUCKET_SECONDS = 3600;
+
+	private final DynamoDbEnhancedClient client;
+	private final DynamoDbTable<RevokedTokenEntity> table;
+
+	public RevokedTokenRepository(DynamoDbEnhancedClient client,
+								  @Value("${aws.dynamodb.table-name}") String tableName) {
+		this.client = client;
+		this.table = client.table(tableName, TableSchema.fromBean(RevokedTokenEntity.class));
+	}
+
+	public void save(String tokenId, String subject, Instant expiresAt) {
+		Instant revokedAt = Instant.now();
+
+		RevokedTokenEntity entity = newEntity(tokenId, subject, revokedAt, expiresAt);
+		entity.setPk(bucketKey(expiresAt.getEpochSecond()));
+		entity.setSk(tokenId);
+
+		RevokedTokenEntity logEntry = newEntity(tokenId, subject, revokedAt, expiresAt);
+		logEntry.setPk(logBucketKey(revokedAt.getEpochSecond()));
+		logEntry.setSk(logSortKey(revokedAt.toEpochMilli()) + "#" + tokenId);
+
+		client.transactWriteItems(TransactWriteItemsEnhancedRequest.builder()
+				.addPutItem(table, entity)
+				.addPutItem(table, logEntry)
+				.build());
+	}
+
+	public boolean exists(String tokenId, Instant expiresAt) {
+		Key key = Key.builder()
+				.partitionValue(bucketKey(expiresAt.getEpochSecond()))
+				.sortValue(tokenId)
+				.build();
+		return table.getItem(r -> r.key(key).consistentRead(true)) != null;
+	}
+
+	/**
+	 * 아직 만료되지 않은 폐기 토큰을 모두 조회합니다. (Bloom filter를 새로 만들 때만 사용)
+	 * TTL 삭제는 지연될 수 있으므로 만료 시각이 지난 항목은 제외합니다.
+	 *
+	 * @param now      기준 시각
+	 * @param lifetime 액세스 토큰 최대 수명
+	 */
+	public List<RevokedTokenEntity> findUnexpired(Instant now, Duration lifetime) {
+		long nowSeconds = now.getEpochSecond();
+		long firstBucket = nowSeconds / BUCKET_SECONDS;
+		long lastBucket = (nowSeconds + lifetime.getSeconds()) / BUCKET_SECONDS;
+
+		List<RevokedTokenEntity> result = new ArrayList<>();
+		for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+			Key key = Key.builder().partitionValue(DynamoDBConstants.REVOKED_TOKEN_PREFIX + bucket).build();
+			table.query(r -> r.queryConditional(QueryConditional.keyEqualTo(key)))
+					.items()
+					.stream()
+					.filter(item -> item.getTtl() != null && item.getTtl() > nowSeconds)
+					.forEach(result::add);
+		}
+		return result;
+	}
+
+	/**
+	 * since(포함) 이후에 폐기된 토큰을 폐기 로그에서 조회합니다.
+	 * 폐기 시각 순 SK의 범위 조건으로 읽으므로, 읽는 양은 그 사이에 새로 폐기된 토큰 수에 비례합니다.
+	 *
+	 * @param since 이 시각 이후의 폐기만 읽습니다
+	 * @param now   기준 시각 (읽을 마지막 버킷)
+	 */
+	public List<RevokedTokenEntity> findRevokedSince(Instant since, Instant now) {
+		long firstBucket = since.getEpochSecond() / BUCKET_SECONDS;
+		long lastBucket = now.getEpochSecond() / BUCKET_SECONDS;
+		String fromSortKey = logSortKey(since.toEpochMilli());
+
+		List<RevokedTokenEntity> result = new ArrayList<>();
+		for (long bucket = firstBucket; bucket <= lastBucket; bucket++) {
+			Key from = Key.builder()
+					.partitionValue(DynamoDBConstants.REVOCATION_LOG_PREFIX + bucket)
+					.sortValue(fromSortKey)
+					.build();
+			table.query(r -> r.queryConditional(QueryConditional.sortGreaterThanOrEqualTo(from)))
+					.items()
+					.forEach(result::add);
+		}
+		return result;
+	}
+
+	private static RevokedTokenEntity newEntity(String tokenId, String subject, Instant revokedAt, Instant expiresAt) {
+		RevokedTokenEntity entity = new RevokedTokenEntity();
+		entity.setTokenId(tokenId);
+		entity.setSubject(subject);
+		entity.setRevokedAt(revokedAt.toString());
+		entity.setRevokedAtMillis(revokedAt.toEpochMilli());
+		entity.setTtl(expiresAt.getEpochSecond());
+		return entity;
+	}
+
+	private static String bucketKey(long expiresAtSeconds) {
+		return DynamoDBConstants.REVOKED_TOKEN_PREFIX + (expiresAtSeconds / BUCKET_SECONDS);
+	}
+
+	private static String logBucketKey(long revokedAtSeconds) {
+		return DynamoDBConstants.REVOCATION_LOG_PREFIX + (revokedAtSeconds / BUCKET_SECONDS);
+	}
+
+	// 문자열 정렬이 시각 순서와 같도록 자릿수를 맞춥니다.
+	private static String logSortKey(long revokedAtMillis) {
+		return String.format("%013d", revokedAtMillis);
+	}
+}
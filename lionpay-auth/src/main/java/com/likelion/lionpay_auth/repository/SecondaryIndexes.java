@@ -0,0 +1,71 @@
+package com.likelion.lionpay_auth.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * GSI를 아직 읽을 수 없는 경우(인덱스가 없거나 백필 중)를 감지합니다.
+ * 운영 테이블에 인덱스를 추가하는 동안(CloudFormation 배포, DynamoDbInitializer) 조회가 500으로 실패하지 않도록
+ * 이전 방식(Scan)으로 대신 읽거나 명확한 오류로 바꿀 때 사용합니다.
+ */
+@Slf4j
+final class SecondaryIndexes {
+
+	private static final String VALIDATION_EXCEPTION = "ValidationException";
+	// 인덱스마다 대체 조회를 처음 사용할 때 한 번만 경고합니다.
+	private static final Set<String> WARNED = ConcurrentHashMap.newKeySet();
+
+	private SecondaryIndexes() {
+	}
+
+	/**
+	 * indexed를 실행하고, 인덱스를 읽을 수 없어 실패하면 fallback으로 대신 조회합니다.
+	 * 결과를 모두 읽는 작업까지 indexed 안에서 끝내야 합니다. (Query/Scan은 결과를 순회할 때 요청을 보냅니다)
+	 */
+	static <T> T queryOrFallback(String indexName, Supplier<T> indexed, Supplier<T> fallback) {
+		try {
+			return indexed.get();
+		} catch (DynamoDbException e) {
+			if (!isUnavailable(e)) {
+				throw e;
+			}
+			if (WARNED.add(indexName)) {
+				log.warn("'{}' GSI를 읽을 수 없어(없음 또는 백필 중) 테이블 Scan으로 대신 조회합니다: {}", indexName, e.getMessage());
+			}
+			return fallback.get();
+		}
+	}
+
+	/**
+	 * indexed를 실행하고, 인덱스를 읽을 수 없어 실패하면 unavailable이 만든 예외를 던집니다.
+	 * 대신 읽을 방법이 테이블 전체 Scan뿐인 목록 조회처럼, 대체 조회보다 명확한 오류가 나은 경우에 사용합니다.
+	 */
+	static <T> T queryOrThrow(Supplier<T> indexed, Supplier<? extends RuntimeException> unavailable) {
+		try {
+			return indexed.get();
+		} catch (DynamoDbException e) {
+			if (!isUnavailable(e)) {
+				throw e;
+			}
+			RuntimeException error = unavailable.get();
+			error.initCause(e);
+			throw error;
+		}
+	}
+
+	/**
+	 * 인덱스가 없으면 "The table does not have the specified index",
+	 * 백필 중이면 "Cannot read from backfilling global secondary index"로 ValidationException이 발생합니다.
+	 */
+	static boolean isUnavailable(DynamoDbException e) {
+		return e.awsErrorDetails() != null
+				&& VALIDATION_EXCEPTION.equals(e.awsErrorDetails().errorCode())
+				&& e.getMessage() != null
+				&& e.getMessage().toLowerCase(Locale.ROOT).contains("index");
+	}
+}
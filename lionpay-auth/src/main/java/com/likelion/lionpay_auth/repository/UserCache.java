@@ -0,0 +1,172 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.config.UserCacheProperties;
+import com.likelion.lionpay_auth.entity.User;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * UserRepository 앞단의 읽기 캐시 (read-through).
+ * userId와 phone 두 키로 같은 사용자를 보관하며, 크기 제한과 TTL을 가집니다.
+ * 같은 키에 대한 동시 미스는 하나의 조회만 DynamoDB로 보내고 나머지는 그 결과를 기다립니다.
+ * 존재하지 않는 사용자는 캐시하지 않습니다. (다른 인스턴스에서 가입한 사용자가 TTL 동안 보이지 않는 문제 방지)
+ */
+@Component
+public class UserCache {
+
+	private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+	private static final String USER_ID_KEY = "id:";
+	private static final String PHONE_KEY = "phone:";
+
+	private final boolean enabled;
+	private final int maxSize;
+	private final long ttlNanos;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private final LongCounter lookupCounter;
+	private final DoubleHistogram loadDuration;
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+
+	private record Entry(CompletableFuture<Optional<User>> value, long expiresAtNanos) {
+		boolean isFresh(long now) {
+			return now - expiresAtNanos < 0;
+		}
+	}
+
+	public UserCache(UserCacheProperties properties, Meter meter) {
+		this.enabled = properties.isEnabled();
+		this.maxSize = properties.getMaxSize();
+		this.ttlNanos = properties.getTtlSeconds() * 1_000_000_000L;
+
+		this.lookupCounter = meter.counterBuilder("auth.user_cache.lookups")
+				.setDescription("사용자 캐시 조회 횟수 (hit, miss)")
+				.setUnit("1")
+				.build();
+		this.loadDuration = meter.histogramBuilder("auth.user_cache.load.duration")
+				.setDescription("캐시 미스 시 DynamoDB에서 사용자를 읽는 데 걸린 시간")
+				.setUnit("ms")
+				.build();
+		meter.gaugeBuilder("auth.user_cache.hit_ratio")
+				.setDescription("사용자 캐시 적중률 (애플리케이션 시작 이후 누적)")
+				.setUnit("1")
+				.buildWithCallback(measurement -> {
+					long hitCount = hits.sum();
+					long total = hitCount + misses.sum();
+					measurement.record(total == 0 ? 0.0 : (double) hitCount / total);
+				});
+		meter.gaugeBuilder("auth.user_cache.size")
+				.ofLongs()
+				.setDescription("사용자 캐시 항목 수")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(entries.size()));
+	}
+
+	public Optional<User> getByUserId(String userId, Supplier<Optional<User>> loader) {
+		return get(USER_ID_KEY + userId, loader);
+	}
+
+	public Optional<User> getByPhone(String phone, Supplier<Optional<User>> loader) {
+		return get(PHONE_KEY + phone, loader);
+	}
+
+	/**
+	 * 사용자가 변경되었을 때 두 키의 캐시 항목을 모두 제거합니다.
+	 */
+	public void invalidate(User user) {
+		if (!enabled) {
+			return;
+		}
+		if (user.getUserId() != null) {
+			entries.remove(USER_ID_KEY + user.getUserId());
+		}
+		if (user.getPhone() != null) {
+			entries.remove(PHONE_KEY + user.getPhone());
+		}
+	}
+
+	private Optional<User> get(String key, Supplier<Optional<User>> loader) {
+		if (!enabled) {
+			return loader.get();
+		}
+
+		long now = System.nanoTime();
+		Entry candidate = new Entry(new CompletableFuture<>(), now + ttlNanos);
+		Entry entry = entries.compute(key, (k, current) -> current != null && current.isFresh(now) ? current : candidate);
+
+		if (entry != candidate) {
+			// 이미 적재되었거나 다른 스레드가 적재 중인 항목
+			record(true);
+			return await(entry.value());
+		}
+
+		record(false);
+		if (entries.size() > maxSize) {
+			evict(now);
+		}
+		return load(key, candidate, loader);
+	}
+
+	private Optional<User> load(String key, Entry entry, Supplier<Optional<User>> loader) {
+		long start = System.nanoTime();
+		try {
+			Optional<User> user = loader.get();
+			entry.value().complete(user);
+			if (user.isEmpty()) {
+				entries.remove(key, entry);
+			}
+			return user;
+		} catch (RuntimeException e) {
+			entry.value().completeExceptionally(e);
+			entries.remove(key, entry);
+			throw e;
+		} finally {
+			loadDuration.record((System.nanoTime() - start) / 1_000_000.0);
+		}
+	}
+
+	private static Optional<User> await(CompletableFuture<Optional<User>> value) {
+		try {
+			return value.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	private void record(boolean hit) {
+		(hit ? hits : misses).increment();
+		lookupCounter.add(1, Attributes.of(RESULT, hit ? "hit" : "miss"));
+	}
+
+	/**
+	 * 만료된 항목을 먼저 정리하고, 그래도 가득 차 있으면 임의의 항목을 제거합니다.
+	 */
+	private void evict(long now) {
+		entries.values().removeIf(e -> !e.isFresh(now));
+
+		Iterator<Entry> values = entries.values().iterator();
+		while (entries.size() > maxSize && values.hasNext()) {
+			Entry e = values.next();
+			// 적재 중인 항목을 제거하면 같은 키로 중복 조회가 발생하므로 완료된 항목만 제거합니다.
+			if (e.value().isDone()) {
+				values.remove();
+			}
+		}
+	}
+}
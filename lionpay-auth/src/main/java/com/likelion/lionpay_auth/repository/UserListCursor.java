@@ -0,0 +1,188 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.entity.User;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * byListShard GSI 사용자 목록의 샤드별 읽기 위치.
+ * 샤드마다 마지막으로 돌려준 사용자의 (createdAt, pk) 또는 끝까지 읽었는지를 기억하며,
+ * 클라이언트에는 내부 구조를 알 수 없는 문자열로만 전달합니다.
+ */
+final class UserListCursor {
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+	private static final String NOT_STARTED = "s";
+	private static final String DONE = "d";
+
+	private final String[] createdAt;
+	private final String[] pk;
+	private final boolean[] done;
+
+	/**
+	 * 샤드 하나에서 읽은 사용자 (createdAt 내림차순)
+	 *
+	 * @param items   읽은 사용자
+	 * @param hasMore 이 샤드에 아직 읽지 않은 사용자가 있는지 여부
+	 */
+	record ShardPage(List<User> items, boolean hasMore) {
+	}
+
+	/**
+	 * 병합 결과
+	 *
+	 * @param items 이번 페이지의 사용자 (createdAt 내림차순)
+	 * @param next  다음 페이지 커서
+	 */
+	record Merged(List<User> items, UserListCursor next) {
+	}
+
+	private UserListCursor(String[] createdAt, String[] pk, boolean[] done) {
+		this.createdAt = createdAt;
+		this.pk = pk;
+		this.done = done;
+	}
+
+	static UserListCursor start(int shards) {
+		return new UserListCursor(new String[shards], new String[shards], new boolean[shards]);
+	}
+
+	/**
+	 * 커서 문자열을 해석합니다. 비어 있거나 형식이 맞지 않으면(샤드 수 변경 포함) 처음부터 읽습니다.
+	 */
+	static UserListCursor decode(String encoded, int shards) {
+		if (encoded == null || encoded.isEmpty()) {
+			return start(shards);
+		}
+		try {
+			String[] entries = new String(DECODER.decode(encoded), StandardCharsets.UTF_8).split(",", -1);
+			if (entries.length != shards) {
+				return start(shards);
+			}
+			UserListCursor cursor = start(shards);
+			for (int shard = 0; shard < shards; shard++) {
+				String entry = entries[shard];
+				if (DONE.equals(entry)) {
+					cursor.done[shard] = true;
+				} else if (!NOT_STARTED.equals(entry)) {
+					String[] position = entry.split(":", 2);
+					cursor.createdAt[shard] = new String(DECODER.decode(position[0]), StandardCharsets.UTF_8);
+					cursor.pk[shard] = new String(DECODER.decode(position[1]), StandardCharsets.UTF_8);
+				}
+			}
+			return cursor;
+		} catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+			return start(shards);
+		}
+	}
+
+	/**
+	 * 모든 샤드를 끝까지 읽었으면 null을 반환합니다.
+	 */
+	String encode() {
+		if (!hasMore()) {
+			return null;
+		}
+		List<String> entries = new ArrayList<>(done.length);
+		for (int shard = 0; shard < done.length; shard++) {
+			if (done[shard]) {
+				entries.add(DONE);
+			} else if (createdAt[shard] == null) {
+				entries.add(NOT_STARTED);
+			} else {
+				entries.add(ENCODER.encodeToString(createdAt[shard].getBytes(StandardCharsets.UTF_8)) + ":"
+						+ ENCODER.encodeToString(pk[shard].getBytes(StandardCharsets.UTF_8)));
+			}
+		}
+		return ENCODER.encodeToString(String.join(",", entries).getBytes(StandardCharsets.UTF_8));
+	}
+
+	boolean hasMore() {
+		for (boolean shardDone : done) {
+			if (!shardDone) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	boolean isDone(int shard) {
+		return done[shard];
+	}
+
+	/**
+	 * 샤드 Query의 exclusiveStartKey. 아직 읽지 않은 샤드면 null을 반환합니다.
+	 */
+	Map<String, AttributeValue> exclusiveStartKey(int shard) {
+		if (createdAt[shard] == null) {
+			return null;
+		}
+		return Map.of(
+				"listShard", AttributeValue.fromS(Integer.toString(shard)),
+				"createdAt", AttributeValue.fromS(createdAt[shard]),
+				"pk", AttributeValue.fromS(pk[shard]),
+				"sk", AttributeValue.fromS(DynamoDBConstants.INFO_SK));
+	}
+
+	/**
+	 * 샤드별 결과를 createdAt 내림차순으로 병합해 최대 limit명을 고르고, 고른 위치까지 전진한 커서를 만듭니다.
+	 * 읽어 둔 항목을 모두 소비했지만 더 남은 샤드가 있으면, 그 샤드의 다음 항목이 더 최신일 수 있으므로 거기서 멈춥니다.
+	 */
+	Merged merge(List<ShardPage> pages, int limit) {
+		int shards = done.length;
+		int[] consumed = new int[shards];
+		UserListCursor next = new UserListCursor(createdAt.clone(), pk.clone(), done.clone());
+		List<User> items = new ArrayList<>(limit);
+
+		merging:
+		while (items.size() < limit) {
+			int best = -1;
+			for (int shard = 0; shard < shards; shard++) {
+				if (done[shard]) {
+					continue;
+				}
+				ShardPage page = pages.get(shard);
+				if (consumed[shard] == page.items().size()) {
+					if (page.hasMore()) {
+						break merging;
+					}
+					continue;
+				}
+				if (best < 0 || isNewer(page.items().get(consumed[shard]), pages.get(best).items().get(consumed[best]))) {
+					best = shard;
+				}
+			}
+			if (best < 0) {
+				break;
+			}
+
+			User user = pages.get(best).items().get(consumed[best]++);
+			items.add(user);
+			next.createdAt[best] = user.getCreatedAt();
+			next.pk[best] = user.getPk();
+		}
+
+		for (int shard = 0; shard < shards; shard++) {
+			ShardPage page = pages.get(shard);
+			if (!done[shard] && consumed[shard] == page.items().size() && !page.hasMore()) {
+				next.done[shard] = true;
+			}
+		}
+		return new Merged(items, next);
+	}
+
+	/**
+	 * 인덱스 정렬(createdAt 문자열 바이트 순)과 같은 기준으로 비교하고, 같으면 pk로 순서를 고정합니다.
+	 */
+	private static boolean isNewer(User candidate, User current) {
+		int byCreatedAt = candidate.getCreatedAt().compareTo(current.getCreatedAt());
+		return byCreatedAt != 0 ? byCreatedAt > 0 : candidate.getPk().compareTo(current.getPk()) > 0;
+	}
+}
@@ -1,53 +1,191 @@
 package com.likelion.lionpay_auth.repository;
 
+import com.likelion.lionpay_auth.config.UserListingProperties;
+import com.likelion.lionpay_auth.entity.RefreshTokenEntity;
 import com.likelion.lionpay_auth.entity.User;
 import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.exception.UserListingUnavailableException;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Repository;
-import software.amazon.awssdk.core.pagination.sync.SdkIterable;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbIndex;
 import software.amazon.awssdk.enhanced.dynamodb.DynamoDbTable;
 import software.amazon.awssdk.enhanced.dynamodb.Expression;
 import software.amazon.awssdk.enhanced.dynamodb.Key;
 import software.amazon.awssdk.enhanced.dynamodb.model.QueryConditional;
 import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
 import software.amazon.awssdk.enhanced.dynamodb.model.Page;
+import software.amazon.awssdk.enhanced.dynamodb.model.QueryEnhancedRequest;
 import software.amazon.awssdk.enhanced.dynamodb.model.ScanEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactPutItemEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.TransactWriteItemsEnhancedRequest;
+import software.amazon.awssdk.enhanced.dynamodb.model.UpdateItemEnhancedRequest;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
 
 import java.util.ArrayList;
-import java.util.Base64;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+@Slf4j
 @Repository
 public class UserRepository {
 
+    private static final int LIST_ALL_PAGE_SIZE = 100;
+    private static final String CONDITIONAL_CHECK_FAILED = "ConditionalCheckFailed";
+    // byListShard GSI를 읽을 수 없을 때 다시 시도하라고 안내할 시간
+    private static final long LISTING_RETRY_AFTER_SECONDS = 60;
+
+    private final DynamoDbEnhancedClient enhancedClient;
+
     private final DynamoDbTable<User> userTable;
+    private final DynamoDbTable<RefreshTokenEntity> refreshTokenTable;
+    private final DynamoDbIndex<User> byUserIdIndex;
+    private final DynamoDbIndex<User> byListShardIndex;
+    private final UserListingProperties listingProperties;
+    private final UserCache userCache;
+    private final RegisteredPhoneFilter phoneFilter;
 
     /**
      * DynamoDB 페이지네이션 결과를 감싸는 레코드
      *
      * @param items   현재 페이지의 사용자 목록
-     * @param lastKey 다음 페이지 조회를 위한 키 (Base64 인코딩된 문자열)
+     * @param lastKey 다음 페이지 조회를 위한 커서 (내부 구조를 알 수 없는 문자열)
      * @param hasMore 다음 페이지가 있는지 여부
      */
     public record PaginatedResult<T>(List<T> items, String lastKey, boolean hasMore) {
     }
 
     public UserRepository(DynamoDbEnhancedClient enhancedClient,
-            @Value("${aws.dynamodb.table-name}") String tableName) {
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            UserCache userCache,
+            RegisteredPhoneFilter phoneFilter,
+            UserListingProperties listingProperties) {
+        this.enhancedClient = enhancedClient;
         this.userTable = enhancedClient.table(tableName, TableSchema.fromBean(User.class));
+        this.refreshTokenTable = enhancedClient.table(tableName, TableSchema.fromBean(RefreshTokenEntity.class));
+        this.byUserIdIndex = userTable.index("byUserId");
+        this.byListShardIndex = userTable.index("byListShard");
+        this.listingProperties = listingProperties;
+        this.userCache = userCache;
+        this.phoneFilter = phoneFilter;
     }
 
     public User save(User user) {
+        if (user.getListShard() == null) {
+            user.setListShard(listShardOf(user.getUserId()));
+        }
         userTable.putItem(user);
+        userCache.invalidate(user);
+        phoneFilter.add(user.getPhone());
         return user;
     }
 
+    /**
+     * 새 사용자와 첫 리프레시 토큰을 하나의 TransactWriteItems로 저장합니다.
+     * 사용자 항목은 attribute_not_exists(pk) 조건으로 넣으므로 같은 전화번호로 동시에 가입해도 하나만 성공하며,
+     * 조건이 실패하면 리프레시 토큰도 저장되지 않습니다.
+     *
+     * @param user         저장할 사용자 (prePersist 완료)
+     * @param refreshToken 함께 저장할 리프레시 토큰
+     * @return 같은 전화번호의 사용자가 이미 있어 저장하지 않았으면 false
+     */
+    public boolean create(User user, RefreshTokenEntity refreshToken) {
+        if (user.getListShard() == null) {
+            user.setListShard(listShardOf(user.getUserId()));
+        }
+        try {
+            enhancedClient.transactWriteItems(TransactWriteItemsEnhancedRequest.builder()
+                    .addPutItem(userTable, TransactPutItemEnhancedRequest.builder(User.class)
+                            .item(user)
+                            .conditionExpression(Expression.builder().expression("attribute_not_exists(pk)").build())
+                            .build())
+                    .addPutItem(refreshTokenTable, refreshToken)
+                    .build());
+        } catch (TransactionCanceledException e) {
+            // 취소 사유는 요청 순서대로 담기며, 첫 번째가 사용자 항목의 조건 검사 결과입니다.
+            if (e.hasCancellationReasons() && CONDITIONAL_CHECK_FAILED.equals(e.cancellationReasons().get(0).code())) {
+                return false;
+            }
+            throw e;
+        }
+        userCache.invalidate(user);
+        phoneFilter.add(user.getPhone());
+        return true;
+    }
+
+    /**
+     * 전화번호로 사용자를 조회합니다.
+     * 가입된 번호의 Bloom filter가 활성화되어 있으면 가입되지 않은 번호는 DynamoDB 조회 없이 빈 결과를 반환합니다.
+     */
     public Optional<User> findByPhone(String phone) {
+        if (phoneFilter.isDefinitelyAbsent(phone)) {
+            return Optional.empty();
+        }
+        Optional<User> user = userCache.getByPhone(phone, () -> loadByPhone(phone));
+        if (user.isEmpty()) {
+            phoneFilter.recordFalsePositive();
+        }
+        return user;
+    }
+
+    /**
+     * 시작 시 저장소의 전체 사용자로 가입된 전화번호 Bloom filter를 만듭니다.
+     * 이후 가입은 create에서 바로 추가되므로 주기적으로 다시 읽지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadPhoneFilter() {
+        if (phoneFilter.isEnabled()) {
+            rebuildPhoneFilter();
+        }
+    }
+
+    /**
+     * 가입이 예상 인원을 넘었을 때만 더 큰 Bloom filter로 다시 만듭니다. (전체 Scan)
+     */
+    @Scheduled(initialDelayString = "${phone-filter.rebuild-interval-minutes:10}",
+            fixedDelayString = "${phone-filter.rebuild-interval-minutes:10}", timeUnit = TimeUnit.MINUTES)
+    public void resizePhoneFilter() {
+        if (phoneFilter.isEnabled() && phoneFilter.isOverCapacity()) {
+            rebuildPhoneFilter();
+        }
+    }
+
+    /**
+     * 가입된 전화번호 Bloom filter를 저장소의 전체 사용자로 다시 만듭니다.
+     * 사용자 항목의 pk만 읽어 전송량을 줄입니다.
+     */
+    private void rebuildPhoneFilter() {
+        Expression filterExpression = Expression.builder()
+                .expression("begins_with(pk, :prefix) AND sk = :sk_info")
+                .expressionValues(Map.of(
+                        ":prefix", AttributeValue.fromS(DynamoDBConstants.USER_PREFIX),
+                        ":sk_info", AttributeValue.fromS(DynamoDBConstants.INFO_SK)))
+                .build();
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .filterExpression(filterExpression)
+                .attributesToProject("pk")
+                .build();
+
+        try {
+            long start = System.currentTimeMillis();
+            phoneFilter.rebuild(userTable.scan(request).items().stream()
+                    .map(user -> user.getPk().substring(DynamoDBConstants.USER_PREFIX.length())));
+            log.info("가입 전화번호 Bloom filter 재구성 완료 ({}ms)", System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.warn("가입 전화번호 Bloom filter 재구성 실패: {}", e.getMessage());
+        }
+    }
+
+    private Optional<User> loadByPhone(String phone) {
         Key key = Key.builder()
                 .partitionValue(DynamoDBConstants.USER_PREFIX + phone)
                 .sortValue(DynamoDBConstants.INFO_SK)
@@ -55,17 +193,56 @@ public class UserRepository {
         return Optional.ofNullable(userTable.getItem(key));
     }
 
+    /**
+     * Bloom filter와 캐시를 거치지 않고 기본 키로 사용자를 강한 일관성으로 읽습니다.
+     * 존재가 확실한 사용자(리프레시 토큰 소유자 등)를 최신 상태로 읽어야 할 때 사용합니다.
+     */
+    public Optional<User> findByPhoneConsistent(String phone) {
+        Key key = Key.builder()
+                .partitionValue(DynamoDBConstants.USER_PREFIX + phone)
+                .sortValue(DynamoDBConstants.INFO_SK)
+                .build();
+        return Optional.ofNullable(userTable.getItem(r -> r.key(key).consistentRead(true)));
+    }
+
     public boolean existsByPhone(String phone) {
         return findByPhone(phone).isPresent();
     }
 
     /**
-     * userId로 사용자를 조회합니다. 이 작업은 테이블 전체를 스캔하므로 비용이 많이 들 수 있습니다.
+     * userId로 사용자를 조회합니다.
+     * byUserId GSI(KEYS_ONLY)에서 userId + INFO로 키를 찾은 뒤, 기본 키로 항목을 읽습니다.
+     * 테이블 크기와 관계없이 Query 1회 + GetItem 1회로 끝나며, 사용자 캐시가 활성화되어 있으면 캐시를 먼저 확인합니다.
+     * 인덱스가 아직 없거나 백필 중이면 테이블 Scan으로 대신 조회합니다.
      *
      * @param userId 조회할 사용자의 UUID
      * @return Optional<User>
      */
     public Optional<User> findByUserId(String userId) {
+        return userCache.getByUserId(userId, () -> loadByUserId(userId));
+    }
+
+    private Optional<User> loadByUserId(String userId) {
+        QueryConditional query = QueryConditional.keyEqualTo(Key.builder()
+                .partitionValue(userId)
+                .sortValue(DynamoDBConstants.INFO_SK)
+                .build());
+
+        return SecondaryIndexes.queryOrFallback("byUserId",
+                () -> byUserIdIndex.query(r -> r.queryConditional(query).limit(1)).stream()
+                        .flatMap(page -> page.items().stream())
+                        .findFirst()
+                        .map(keys -> userTable.getItem(Key.builder()
+                                .partitionValue(keys.getPk())
+                                .sortValue(keys.getSk())
+                                .build())),
+                () -> scanByUserId(userId));
+    }
+
+    /**
+     * byUserId GSI를 쓰기 전의 조회 방식. 필터는 읽은 뒤에 적용되므로 limit 없이 찾을 때까지 페이지를 읽습니다.
+     */
+    private Optional<User> scanByUserId(String userId) {
         Expression filterExpression = Expression.builder()
                 .expression("userId = :val AND sk = :sk_val")
                 .expressionValues(Map.of(
@@ -73,119 +250,152 @@ public class UserRepository {
                         ":sk_val", AttributeValue.fromS(DynamoDBConstants.INFO_SK)))
                 .build();
 
-        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
-                .filterExpression(filterExpression)
-                .limit(1)
-                .build();
-
-        return userTable.scan(request).items().stream().findFirst();
+        return userTable.scan(ScanEnhancedRequest.builder().filterExpression(filterExpression).build())
+                .items().stream()
+                .findFirst();
     }
 
     /**
-     * 모든 사용자를 스캔하여 반환합니다.
+     * 모든 사용자를 가입일 최신순으로 반환합니다.
+     * byListShard GSI만 읽으므로 리프레시 토큰, 관리자 등 다른 항목은 읽지 않습니다. (비밀번호는 인덱스에 없어 채워지지 않음)
      *
      * @return 모든 사용자 목록
      */
     public List<User> findAll() {
-        Expression filterExpression = Expression.builder()
-                .expression("begins_with(pk, :prefix) AND sk = :sk_info")
-                .expressionValues(Map.of(
-                        ":prefix", AttributeValue.fromS(DynamoDBConstants.USER_PREFIX),
-                        ":sk_info", AttributeValue.fromS(DynamoDBConstants.INFO_SK)))
-                .build();
-
-        return userTable.scan(ScanEnhancedRequest.builder().filterExpression(filterExpression).build())
-                .items()
-                .stream()
-                .toList();
+        List<User> users = new ArrayList<>();
+        String lastKey = null;
+        do {
+            PaginatedResult<User> page = findAllPaginated(LIST_ALL_PAGE_SIZE, lastKey);
+            users.addAll(page.items());
+            lastKey = page.lastKey();
+        } while (lastKey != null);
+        return users;
     }
 
     /**
-     * DynamoDB 페이지네이션을 사용하여 사용자를 스캔합니다.
+     * 가입일(createdAt) 최신순으로 사용자 한 페이지를 조회합니다.
+     * byListShard GSI의 샤드마다 최대 limit명을 Query로 읽어 병합하고, 샤드별 읽기 위치를 담은 커서를 lastKey로 돌려줍니다.
+     * 읽는 항목 수는 테이블 크기와 무관하게 limit × 샤드 수 이하입니다.
+     * 인덱스가 아직 없거나 백필 중이면 UserListingUnavailableException(503)을 던집니다.
      *
      * @param limit   가져올 항목 수
-     * @param lastKey 이전 페이지의 마지막 키 (null이면 처음부터 시작)
+     * @param lastKey 이전 페이지가 돌려준 커서 (null이면 처음부터 시작)
      * @return 페이지네이션된 결과
      */
     public PaginatedResult<User> findAllPaginated(int limit, String lastKey) {
-        Expression filterExpression = Expression.builder()
-                .expression("begins_with(pk, :prefix) AND sk = :sk_info")
-                .expressionValues(Map.of(
-                        ":prefix", AttributeValue.fromS(DynamoDBConstants.USER_PREFIX),
-                        ":sk_info", AttributeValue.fromS(DynamoDBConstants.INFO_SK)))
-                .build();
-
-        ScanEnhancedRequest.Builder requestBuilder = ScanEnhancedRequest.builder()
-                .filterExpression(filterExpression)
-                .limit(limit);
+        int shards = listingProperties.getShards();
+        UserListCursor cursor = UserListCursor.decode(lastKey, shards);
 
-        // 이전 페이지의 마지막 키가 있으면 exclusiveStartKey로 설정
-        if (lastKey != null && !lastKey.isEmpty()) {
-            Map<String, AttributeValue> exclusiveStartKey = decodeLastKey(lastKey);
-            if (exclusiveStartKey != null) {
-                requestBuilder.exclusiveStartKey(exclusiveStartKey);
+        List<UserListCursor.ShardPage> pages = SecondaryIndexes.queryOrThrow(() -> {
+            List<UserListCursor.ShardPage> read = new ArrayList<>(shards);
+            for (int shard = 0; shard < shards; shard++) {
+                read.add(cursor.isDone(shard)
+                        ? new UserListCursor.ShardPage(List.of(), false)
+                        : queryShard(shard, limit, cursor.exclusiveStartKey(shard)));
             }
-        }
+            return read;
+        }, UserRepository::listingUnavailable);
 
-        SdkIterable<Page<User>> pages = userTable.scan(requestBuilder.build());
-
-        List<User> items = new ArrayList<>();
-        Map<String, AttributeValue> newLastKey = null;
-
-        // 첫 번째 페이지만 가져옴
-        for (Page<User> page : pages) {
-            items.addAll(page.items());
-            newLastKey = page.lastEvaluatedKey();
-            break; // 첫 번째 페이지만 처리
-        }
-
-        String encodedLastKey = encodeLastKey(newLastKey);
-        return new PaginatedResult<>(items, encodedLastKey, newLastKey != null && !newLastKey.isEmpty());
+        UserListCursor.Merged merged = cursor.merge(pages, limit);
+        String nextKey = merged.next().encode();
+        return new PaginatedResult<>(merged.items(), nextKey, nextKey != null);
     }
 
     /**
-     * 전체 사용자 수를 반환합니다. (페이지네이션 정보 계산용)
+     * byListShard GSI를 병렬 Scan의 한 세그먼트만큼 읽으며 사용자마다 action을 실행합니다.
+     * 페이지(최대 1MB)를 하나씩 읽으므로 메모리에는 한 페이지만 올라가며, action이 예외를 던지면 스캔을 중단합니다.
+     *
+     * @param segment       읽을 세그먼트 번호 (0부터 시작)
+     * @param totalSegments 전체 세그먼트 수
+     * @param action        사용자마다 실행할 작업
      */
-    public long countAll() {
-        return findAll().size();
+    public void forEachInSegment(int segment, int totalSegments, Consumer<User> action) {
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .segment(segment)
+                .totalSegments(totalSegments)
+                .build();
+        SecondaryIndexes.queryOrThrow(() -> {
+            byListShardIndex.scan(request).forEach(page -> page.items().forEach(action));
+            return null;
+        }, UserRepository::listingUnavailable);
     }
 
     /**
-     * lastEvaluatedKey를 Base64 문자열로 인코딩
+     * 목록 GSI 대신 테이블 전체를 Scan하면 목록 한 페이지마다 테이블 크기만큼 읽게 되므로, 인덱스가 준비될 때까지 명확한 오류로 거절합니다.
      */
-    private String encodeLastKey(Map<String, AttributeValue> lastKey) {
-        if (lastKey == null || lastKey.isEmpty()) {
-            return null;
-        }
-        // 간단히 pk와 sk만 인코딩 (필요한 경우 더 복잡한 직렬화 사용)
-        AttributeValue pk = lastKey.get("pk");
-        AttributeValue sk = lastKey.get("sk");
-        if (pk != null && sk != null) {
-            String combined = pk.s() + "|" + sk.s();
-            return Base64.getEncoder().encodeToString(combined.getBytes());
+    private static UserListingUnavailableException listingUnavailable() {
+        return new UserListingUnavailableException(
+                "사용자 목록 인덱스(byListShard)를 준비하는 중입니다. 잠시 후 다시 시도해주세요.", LISTING_RETRY_AFTER_SECONDS);
+    }
+
+    private UserListCursor.ShardPage queryShard(int shard, int limit, Map<String, AttributeValue> exclusiveStartKey) {
+        QueryEnhancedRequest request = QueryEnhancedRequest.builder()
+                .queryConditional(QueryConditional.keyEqualTo(Key.builder().partitionValue(Integer.toString(shard)).build()))
+                .scanIndexForward(false)
+                .limit(limit)
+                .exclusiveStartKey(exclusiveStartKey)
+                .build();
+
+        // 첫 번째 페이지만 가져옴
+        for (Page<User> page : byListShardIndex.query(request)) {
+            Map<String, AttributeValue> last = page.lastEvaluatedKey();
+            return new UserListCursor.ShardPage(page.items(), last != null && !last.isEmpty());
         }
-        return null;
+        return new UserListCursor.ShardPage(List.of(), false);
     }
 
     /**
-     * Base64 문자열을 lastEvaluatedKey로 디코딩
+     * 사용자의 목록 샤드 번호. userId로 정해지므로 같은 사용자를 다시 저장해도 바뀌지 않습니다.
      */
-    private Map<String, AttributeValue> decodeLastKey(String encodedKey) {
-        if (encodedKey == null || encodedKey.isEmpty()) {
-            return null;
+    private String listShardOf(String userId) {
+        return Integer.toString(Math.floorMod(userId.hashCode(), listingProperties.getShards()));
+    }
+
+    /**
+     * 목록 샤드 번호가 없는 기존 사용자에게 샤드 번호를 채워 byListShard GSI에 포함시킵니다.
+     * 샤드 번호만 갱신하며, 그 사이 삭제된 사용자는 다시 만들지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillListShards() {
+        if (!listingProperties.isBackfillOnStartup()) {
+            return;
         }
+        Expression filterExpression = Expression.builder()
+                .expression("begins_with(pk, :prefix) AND sk = :sk_info AND attribute_not_exists(listShard)")
+                .expressionValues(Map.of(
+                        ":prefix", AttributeValue.fromS(DynamoDBConstants.USER_PREFIX),
+                        ":sk_info", AttributeValue.fromS(DynamoDBConstants.INFO_SK)))
+                .build();
+        ScanEnhancedRequest request = ScanEnhancedRequest.builder()
+                .filterExpression(filterExpression)
+                .attributesToProject("pk", "sk", "userId")
+                .build();
+        Expression userExists = Expression.builder().expression("attribute_exists(pk)").build();
+
         try {
-            String decoded = new String(Base64.getDecoder().decode(encodedKey));
-            String[] parts = decoded.split("\\|", 2);
-            if (parts.length == 2) {
-                Map<String, AttributeValue> key = new HashMap<>();
-                key.put("pk", AttributeValue.fromS(parts[0]));
-                key.put("sk", AttributeValue.fromS(parts[1]));
-                return key;
+            long start = System.currentTimeMillis();
+            long updated = 0;
+            for (User user : userTable.scan(request).items()) {
+                User shard = new User();
+                shard.setPk(user.getPk());
+                shard.setSk(user.getSk());
+                shard.setListShard(listShardOf(user.getUserId()));
+                try {
+                    userTable.updateItem(UpdateItemEnhancedRequest.builder(User.class)
+                            .item(shard)
+                            .ignoreNulls(true)
+                            .conditionExpression(userExists)
+                            .build());
+                    updated++;
+                } catch (ConditionalCheckFailedException e) {
+                    // 스캔 이후 삭제된 사용자
+                }
+            }
+            if (updated > 0) {
+                log.info("사용자 목록 샤드 번호 채우기 완료: {}명 ({}ms)", updated, System.currentTimeMillis() - start);
             }
         } catch (Exception e) {
-            // 디코딩 실패 시 null 반환
+            log.warn("사용자 목록 샤드 번호 채우기 실패: {}", e.getMessage());
         }
-        return null;
     }
 }
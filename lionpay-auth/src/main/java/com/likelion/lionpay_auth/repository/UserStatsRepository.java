@@ -0,0 +1,226 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.config.UserStatsProperties;
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.entity.User;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Repository;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConditionalCheckFailedException;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 사용자 집계(전체 수, 상태별 수, 일별 가입 수) 저장소.
+ * 가입 시 임의의 샤드 항목(USER_STATS#n)에 원자적 ADD로 누적하므로 쓰기가 한 파티션에 몰리지 않고,
+ * 읽을 때는 기준 항목(USER_STATS#BASE)과 모든 샤드를 BatchGetItem 한 번으로 읽어 합산합니다.
+ * 테이블 전체를 스캔하던 countAll과 달리 비용이 사용자 수와 무관합니다.
+ * 집계는 사용자 생성 이후 별도 쓰기로 갱신되므로, 갱신에 실패하면 그만큼 실제보다 작아집니다. (auth.user_stats.update_failures로 확인)
+ * 현재 사용자 상태를 바꾸는 기능이 없으므로 상태별 수는 가입 시 상태로만 집계됩니다.
+ */
+@Slf4j
+@Repository
+public class UserStatsRepository {
+
+    private static final String TOTAL = "total";
+    private static final String STATUS_PREFIX = "status_";
+    private static final String SIGN_UPS_PREFIX = "signUps_";
+    private static final int MAX_BATCH_GET_ATTEMPTS = 3;
+
+    private final DynamoDbClient dynamoDbClient;
+    private final String tableName;
+    private final UserStatsProperties properties;
+    private final LongCounter updateFailureCounter;
+
+    /**
+     * 합산된 사용자 집계
+     *
+     * @param totalCount    전체 사용자 수
+     * @param countByStatus 상태별 사용자 수
+     * @param dailySignUps  날짜(UTC, yyyy-MM-dd)별 가입 수, 날짜 오름차순
+     */
+    public record UserStats(long totalCount, Map<String, Long> countByStatus, Map<String, Long> dailySignUps) {
+    }
+
+    public UserStatsRepository(DynamoDbClient dynamoDbClient,
+            @Value("${aws.dynamodb.table-name}") String tableName,
+            UserStatsProperties properties,
+            Meter meter) {
+        this.dynamoDbClient = dynamoDbClient;
+        this.tableName = tableName;
+        this.properties = properties;
+
+        this.updateFailureCounter = meter.counterBuilder("auth.user_stats.update_failures")
+                .setDescription("사용자 집계 갱신 실패 횟수 (실패한 만큼 집계가 실제보다 작음)")
+                .setUnit("1")
+                .build();
+    }
+
+    /**
+     * 새로 가입한 사용자를 집계에 더합니다. 집계 갱신에 실패해도 가입은 취소하지 않습니다.
+     */
+    public void recordSignUp(User user) {
+        Map<String, Long> increments = new LinkedHashMap<>();
+        increments.put(TOTAL, 1L);
+        increments.put(STATUS_PREFIX + user.getStatus(), 1L);
+        increments.put(SIGN_UPS_PREFIX + signUpDay(user.getCreatedAt()), 1L);
+        add(increments);
+    }
+
+    /**
+     * 기준 항목과 모든 샤드를 한 번의 BatchGetItem으로 읽어 합산합니다.
+     */
+    public UserStats getStats() {
+        List<Map<String, AttributeValue>> keys = new ArrayList<>();
+        keys.add(key(DynamoDBConstants.USER_STATS_BASE));
+        for (int shard = 0; shard < properties.getShards(); shard++) {
+            keys.add(key(Integer.toString(shard)));
+        }
+
+        long total = 0;
+        Map<String, Long> countByStatus = new TreeMap<>();
+        Map<String, Long> dailySignUps = new TreeMap<>();
+        Map<String, KeysAndAttributes> request = Map.of(tableName, KeysAndAttributes.builder().keys(keys).build());
+
+        for (int attempt = 0; attempt < MAX_BATCH_GET_ATTEMPTS && !request.isEmpty(); attempt++) {
+            Map<String, KeysAndAttributes> requestItems = request;
+            BatchGetItemResponse response = dynamoDbClient.batchGetItem(b -> b.requestItems(requestItems));
+            for (Map<String, AttributeValue> item : response.responses().getOrDefault(tableName, List.of())) {
+                for (Map.Entry<String, AttributeValue> attribute : item.entrySet()) {
+                    String name = attribute.getKey();
+                    if (attribute.getValue().n() == null) {
+                        continue;
+                    }
+                    long value = Long.parseLong(attribute.getValue().n());
+                    if (TOTAL.equals(name)) {
+                        total += value;
+                    } else if (name.startsWith(STATUS_PREFIX)) {
+                        countByStatus.merge(name.substring(STATUS_PREFIX.length()), value, Long::sum);
+                    } else if (name.startsWith(SIGN_UPS_PREFIX)) {
+                        dailySignUps.merge(name.substring(SIGN_UPS_PREFIX.length()), value, Long::sum);
+                    }
+                }
+            }
+            request = response.unprocessedKeys();
+        }
+        if (!request.isEmpty()) {
+            log.warn("사용자 집계 일부 샤드를 읽지 못했습니다. 값이 실제보다 작을 수 있습니다.");
+        }
+
+        return new UserStats(total, countByStatus, dailySignUps);
+    }
+
+    /**
+     * 집계 도입 이전에 가입한 사용자를 한 번 세어 기준 항목으로 저장합니다.
+     * 기준 항목이 이미 있으면 아무것도 하지 않으며, 여러 인스턴스가 동시에 시작해도 조건부 쓰기로 한 번만 저장됩니다.
+     * 세는 동안 가입한 사용자는 기준 항목과 샤드에 모두 반영되어 그만큼 많게 집계될 수 있습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillBase() {
+        if (!properties.isBackfillOnStartup()) {
+            return;
+        }
+        try {
+            Map<String, AttributeValue> baseKey = key(DynamoDBConstants.USER_STATS_BASE);
+            if (dynamoDbClient.getItem(b -> b.tableName(tableName).key(baseKey).consistentRead(true)).hasItem()) {
+                return;
+            }
+
+            long start = System.currentTimeMillis();
+            Map<String, Long> counts = new HashMap<>();
+            dynamoDbClient.scanPaginator(b -> b
+                    .tableName(tableName)
+                    .filterExpression("begins_with(pk, :prefix) AND sk = :sk_info")
+                    .projectionExpression("#status, createdAt")
+                    .expressionAttributeNames(Map.of("#status", "status"))
+                    .expressionAttributeValues(Map.of(
+                            ":prefix", AttributeValue.fromS(DynamoDBConstants.USER_PREFIX),
+                            ":sk_info", AttributeValue.fromS(DynamoDBConstants.INFO_SK))))
+                    .items()
+                    .forEach(user -> {
+                        counts.merge(TOTAL, 1L, Long::sum);
+                        if (user.containsKey("status")) {
+                            counts.merge(STATUS_PREFIX + user.get("status").s(), 1L, Long::sum);
+                        }
+                        if (user.containsKey("createdAt")) {
+                            try {
+                                counts.merge(SIGN_UPS_PREFIX + signUpDay(user.get("createdAt").s()), 1L, Long::sum);
+                            } catch (DateTimeParseException e) {
+                                // 가입일을 알 수 없는 사용자는 일별 가입 수에서만 제외합니다.
+                            }
+                        }
+                    });
+
+            Map<String, AttributeValue> item = new HashMap<>(baseKey);
+            item.put(TOTAL, AttributeValue.fromN("0"));
+            counts.forEach((name, value) -> item.put(name, AttributeValue.fromN(Long.toString(value))));
+            dynamoDbClient.putItem(b -> b
+                    .tableName(tableName)
+                    .item(item)
+                    .conditionExpression("attribute_not_exists(pk)"));
+            log.info("사용자 집계 기준 항목 생성 완료: total={} ({}ms)", counts.getOrDefault(TOTAL, 0L),
+                    System.currentTimeMillis() - start);
+        } catch (ConditionalCheckFailedException e) {
+            log.info("다른 인스턴스가 사용자 집계 기준 항목을 먼저 만들었습니다.");
+        } catch (Exception e) {
+            log.warn("사용자 집계 기준 항목 생성 실패: {}", e.getMessage());
+        }
+    }
+
+    private void add(Map<String, Long> increments) {
+        StringBuilder expression = new StringBuilder("ADD ");
+        Map<String, String> names = new HashMap<>();
+        Map<String, AttributeValue> values = new HashMap<>();
+        int i = 0;
+        for (Map.Entry<String, Long> increment : increments.entrySet()) {
+            if (i > 0) {
+                expression.append(", ");
+            }
+            expression.append("#a").append(i).append(" :v").append(i);
+            names.put("#a" + i, increment.getKey());
+            values.put(":v" + i, AttributeValue.fromN(Long.toString(increment.getValue())));
+            i++;
+        }
+
+        String shard = Integer.toString(ThreadLocalRandom.current().nextInt(properties.getShards()));
+        try {
+            dynamoDbClient.updateItem(b -> b
+                    .tableName(tableName)
+                    .key(key(shard))
+                    .updateExpression(expression.toString())
+                    .expressionAttributeNames(names)
+                    .expressionAttributeValues(values));
+        } catch (Exception e) {
+            updateFailureCounter.add(1);
+            log.error("사용자 집계 갱신 실패. 집계가 실제보다 작아집니다: {}", increments, e);
+        }
+    }
+
+    private static Map<String, AttributeValue> key(String shard) {
+        return Map.of(
+                "pk", AttributeValue.fromS(DynamoDBConstants.USER_STATS_PREFIX + shard),
+                "sk", AttributeValue.fromS(DynamoDBConstants.INFO_SK));
+    }
+
+    private static String signUpDay(String createdAt) {
+        return LocalDate.ofInstant(Instant.parse(createdAt), ZoneOffset.UTC).toString();
+    }
+}
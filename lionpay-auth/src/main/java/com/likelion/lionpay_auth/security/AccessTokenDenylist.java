@@ -0,0 +1,159 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.entity.RevokedTokenEntity;
+import com.likelion.lionpay_auth.repository.RevokedTokenRepository;
+import com.likelion.lionpay_auth.support.BloomFilter;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 폐기된 액세스 토큰(jti) 목록.
+ * 저장소(DynamoDB) 앞에 메모리 Bloom filter를 두어, 폐기되지 않은 토큰은 I/O 없이 통과시키고
+ * Bloom filter가 포함 가능성이 있다고 판단한 경우에만 저장소를 조회합니다.
+ * 다른 인스턴스에서 폐기한 토큰은 주기적으로 폐기 로그에서 마지막으로 읽은 이후의 항목만 읽어 Bloom filter에 추가하며,
+ * 만료된 항목을 비우기 위해 액세스 토큰 수명마다 Bloom filter를 만료되지 않은 폐기 목록으로 새로 만듭니다.
+ */
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+	private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+	// 다른 인스턴스의 시계가 조금 느려도 폐기를 놓치지 않도록, 마지막으로 읽은 위치보다 이만큼 앞에서부터 다시 읽습니다.
+	private static final Duration CLOCK_SKEW_ALLOWANCE = Duration.ofSeconds(30);
+
+	private final RevokedTokenRepository revokedTokenRepository;
+	private final JwtProperties.Revocation config;
+	private final Duration tokenLifetime;
+	private final LongCounter checkCounter;
+
+	private volatile BloomFilter filter;
+	private volatile Instant filterCreatedAt;
+	// 폐기 로그를 어디까지 반영했는지 (null이면 아직 한 번도 읽지 않음)
+	private volatile Instant highWaterMark;
+
+	public AccessTokenDenylist(RevokedTokenRepository revokedTokenRepository,
+			JwtProperties jwtProperties,
+			Meter meter) {
+		this.revokedTokenRepository = revokedTokenRepository;
+		this.config = jwtProperties.getRevocation();
+		this.tokenLifetime = Duration.ofMinutes(jwtProperties.getAccessTokenExpirationMinutes());
+		this.filter = newFilter();
+		this.filterCreatedAt = Instant.now();
+
+		this.checkCounter = meter.counterBuilder("auth.jwt.revocation.checks")
+				.setDescription("액세스 토큰 폐기 여부 확인 횟수 (bloom_negative, revoked, false_positive)")
+				.setUnit("1")
+				.build();
+		meter.gaugeBuilder("auth.jwt.revocation.bloom.false_positive_rate")
+				.setDescription("폐기 목록 Bloom filter의 추정 거짓 양성 비율")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(filter.expectedFalsePositiveRate()));
+		meter.gaugeBuilder("auth.jwt.revocation.bloom.fill_ratio")
+				.setDescription("폐기 목록 Bloom filter의 비트 채움 비율")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(filter.fillRatio()));
+	}
+
+	/**
+	 * 액세스 토큰을 만료 시각까지 폐기합니다.
+	 */
+	public void revoke(VerifiedClaims claims) {
+		if (!config.isEnabled() || claims.tokenId() == null || claims.expiresAt() == null) {
+			return;
+		}
+		revokedTokenRepository.save(claims.tokenId(), claims.subject(), claims.expiresAt());
+		filter.put(claims.tokenId());
+	}
+
+	/**
+	 * 토큰이 폐기되었는지 확인합니다. 대부분의 토큰은 Bloom filter에서 I/O 없이 판정됩니다.
+	 */
+	public boolean isRevoked(VerifiedClaims claims) {
+		if (!config.isEnabled() || claims.tokenId() == null || claims.expiresAt() == null) {
+			return false;
+		}
+		if (!filter.mightContain(claims.tokenId())) {
+			checkCounter.add(1, Attributes.of(RESULT, "bloom_negative"));
+			return false;
+		}
+
+		boolean revoked;
+		try {
+			revoked = revokedTokenRepository.exists(claims.tokenId(), claims.expiresAt());
+		} catch (Exception e) {
+			// 저장소를 확인할 수 없으면 안전하게 폐기된 것으로 간주합니다.
+			log.warn("폐기 토큰 저장소 조회 실패: {}", e.getMessage());
+			return true;
+		}
+		checkCounter.add(1, Attributes.of(RESULT, revoked ? "revoked" : "false_positive"));
+		return revoked;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		refresh();
+	}
+
+	/**
+	 * 저장소의 폐기 목록을 Bloom filter에 반영합니다.
+	 * 평소에는 폐기 로그에서 마지막으로 반영한 시각 이후의 항목만 읽고,
+	 * 토큰 수명이 지나면 만료 항목을 비우기 위해 새 Bloom filter를 만들어 교체합니다.
+	 */
+	@Scheduled(fixedDelayString = "${jwt.revocation.refresh-interval-seconds:5}", timeUnit = TimeUnit.SECONDS)
+	public void refresh() {
+		if (!config.isEnabled()) {
+			return;
+		}
+		try {
+			Instant now = Instant.now();
+			if (highWaterMark == null || Duration.between(filterCreatedAt, now).compareTo(tokenLifetime) >= 0) {
+				rebuild(now);
+			} else {
+				catchUp(now);
+			}
+		} catch (Exception e) {
+			log.warn("폐기 토큰 목록 갱신 실패: {}", e.getMessage());
+		}
+	}
+
+	private void rebuild(Instant now) {
+		BloomFilter rebuilt = newFilter();
+		revokedTokenRepository.findUnexpired(now, tokenLifetime).forEach(item -> rebuilt.put(item.getSk()));
+		this.filter = rebuilt;
+		this.filterCreatedAt = now;
+		// 조회하는 동안 폐기된 토큰은 다음 증분 조회가 읽습니다.
+		this.highWaterMark = now;
+	}
+
+	private void catchUp(Instant now) {
+		BloomFilter current = filter;
+		Instant latest = highWaterMark;
+		for (RevokedTokenEntity item : revokedTokenRepository.findRevokedSince(latest.minus(CLOCK_SKEW_ALLOWANCE), now)) {
+			// 겹쳐 읽은 항목과 이 인스턴스에서 폐기한 토큰은 이미 들어 있으므로 다시 넣지 않습니다.
+			if (!current.mightContain(item.getTokenId())) {
+				current.put(item.getTokenId());
+			}
+			Instant revokedAt = Instant.ofEpochMilli(item.getRevokedAtMillis());
+			if (revokedAt.isAfter(latest)) {
+				latest = revokedAt;
+			}
+		}
+		this.highWaterMark = latest;
+	}
+
+	private BloomFilter newFilter() {
+		return new BloomFilter(config.getExpectedRevocations(), config.getFalsePositiveRate());
+	}
+}
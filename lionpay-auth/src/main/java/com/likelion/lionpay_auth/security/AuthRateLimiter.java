@@ -0,0 +1,109 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.RateLimitProperties;
+import com.likelion.lionpay_auth.enums.RateLimitPolicy;
+import com.likelion.lionpay_auth.exception.RateLimitExceededException;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 API용 토큰 버킷 요청 제한기.
+ * 버킷은 ConcurrentHashMap에 "정책:키"로 보관하며, compute()가 해당 키의 bin만 잠그므로 전역 락 없이 동작합니다.
+ * 오래 사용되지 않은 버킷은 주기적으로 제거하여 키가 수백만 개여도 메모리가 계속 늘어나지 않습니다.
+ */
+@Component
+public class AuthRateLimiter {
+
+	private static final AttributeKey<String> POLICY = AttributeKey.stringKey("policy");
+
+	private final RateLimitProperties properties;
+	private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+	private final LongCounter rejectedCounter;
+
+	/**
+	 * compute() 안에서만 변경되므로 별도 동기화가 필요 없습니다.
+	 */
+	private static final class Bucket {
+		private double tokens;
+		private long refilledAtNanos;
+		private volatile long lastUsedNanos;
+
+		private Bucket(double tokens, long now) {
+			this.tokens = tokens;
+			this.refilledAtNanos = now;
+			this.lastUsedNanos = now;
+		}
+
+		/**
+		 * @return 0이면 허용, 양수이면 다음 토큰까지 기다려야 하는 나노초
+		 */
+		private long tryAcquire(RateLimitProperties.Limit limit, long now) {
+			double refillPerNano = limit.getRefillPerMinute() / TimeUnit.MINUTES.toNanos(1);
+			tokens = Math.min(limit.getCapacity(), tokens + (now - refilledAtNanos) * refillPerNano);
+			refilledAtNanos = now;
+			lastUsedNanos = now;
+			if (tokens >= 1) {
+				tokens -= 1;
+				return 0;
+			}
+			return (long) Math.ceil((1 - tokens) / refillPerNano);
+		}
+	}
+
+	public AuthRateLimiter(RateLimitProperties properties, Meter meter) {
+		this.properties = properties;
+		this.rejectedCounter = meter.counterBuilder("auth.rate_limit.rejected")
+				.setDescription("요청 제한으로 거부된 인증 API 요청 수")
+				.setUnit("1")
+				.build();
+		meter.gaugeBuilder("auth.rate_limit.buckets")
+				.ofLongs()
+				.setDescription("요청 제한 버킷 수")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(buckets.size()));
+	}
+
+	/**
+	 * 정책과 키(전화번호, 관리자 아이디, IP)에 해당하는 버킷에서 토큰 하나를 사용합니다.
+	 *
+	 * @throws RateLimitExceededException 토큰이 없으면 (429, Retry-After)
+	 */
+	public void acquire(RateLimitPolicy policy, String key) {
+		RateLimitProperties.Limit limit = properties.getPolicies().get(policy);
+		if (!properties.isEnabled() || limit == null || key == null) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		long[] waitNanos = new long[1];
+		buckets.compute(policy.name() + ':' + key, (k, bucket) -> {
+			Bucket current = bucket != null ? bucket : new Bucket(limit.getCapacity(), now);
+			waitNanos[0] = current.tryAcquire(limit, now);
+			return current;
+		});
+
+		if (waitNanos[0] > 0) {
+			rejectedCounter.add(1, Attributes.of(POLICY, policy.name()));
+			long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos[0] + 999_999_999L));
+			throw new RateLimitExceededException("요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+		}
+	}
+
+	/**
+	 * idle-timeout 동안 사용되지 않은 버킷을 제거합니다.
+	 */
+	@Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+	public void evictIdleBuckets() {
+		long idleNanos = TimeUnit.MINUTES.toNanos(properties.getIdleTimeoutMinutes());
+		long now = System.nanoTime();
+		buckets.values().removeIf(bucket -> now - bucket.lastUsedNanos > idleNanos);
+	}
+}
@@ -0,0 +1,52 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.PasswordHashingProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 하드웨어에서 BCrypt 해시 1회가 목표 시간 안에 끝나는 가장 큰 cost를 찾습니다.
+ * cost가 1 오를 때마다 해시 시간은 두 배가 되므로 min-cost부터 실제로 측정하며 올라갑니다.
+ * calibrate=true일 때만 측정하며, 기본은 설정된 cost를 그대로 사용합니다.
+ */
+@Slf4j
+public final class BcryptCostCalibrator {
+
+	private static final String SAMPLE_PASSWORD = "calibration-password";
+
+	private BcryptCostCalibrator() {
+	}
+
+	public static int calibrate(PasswordHashingProperties.Bcrypt config) {
+		if (!config.isCalibrate()) {
+			log.info("BCrypt cost 고정값 사용: {}", config.getCost());
+			return config.getCost();
+		}
+
+		// JIT 워밍업
+		new BCryptPasswordEncoder(config.getMinCost()).encode(SAMPLE_PASSWORD);
+
+		int cost = config.getMinCost();
+		long elapsedMillis = measure(cost);
+		while (cost < config.getMaxCost() && elapsedMillis * 2 <= config.getTargetMillis()) {
+			long next = measure(cost + 1);
+			if (next > config.getTargetMillis()) {
+				break;
+			}
+			cost++;
+			elapsedMillis = next;
+		}
+
+		log.warn("BCrypt cost 보정 완료: cost={}, 해시 1회 약 {}ms (목표 {}ms). "
+				+ "인스턴스마다 결과가 다를 수 있으므로 이 값을 PASSWORD_BCRYPT_COST로 고정하고 보정을 끄세요.",
+				cost, elapsedMillis, config.getTargetMillis());
+		return cost;
+	}
+
+	private static long measure(int cost) {
+		BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(cost);
+		long start = System.nanoTime();
+		encoder.encode(SAMPLE_PASSWORD);
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+}
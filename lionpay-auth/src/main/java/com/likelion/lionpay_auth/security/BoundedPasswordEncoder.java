@@ -0,0 +1,134 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.PasswordHashingProperties;
+import com.likelion.lionpay_auth.exception.PasswordHashingOverloadedException;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시(encode, matches)를 CPU 코어 수만큼의 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * 로그인이 몰려도 해시 작업이 모든 CPU를 점유하지 않아 토큰 갱신, /v1/users/me 같은 가벼운 요청이 계속 처리됩니다.
+ * 대기열이 가득 차면 기다리지 않고 즉시 PasswordHashingOverloadedException(503, Retry-After)을 던집니다.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+	private static final AttributeKey<String> OPERATION = AttributeKey.stringKey("operation");
+	private static final Attributes ENCODE = Attributes.of(OPERATION, "encode");
+	private static final Attributes MATCHES = Attributes.of(OPERATION, "matches");
+
+	private final PasswordEncoder delegate;
+	private final ThreadPoolExecutor executor;
+	private final long retryAfterSeconds;
+
+	private final DoubleHistogram waitDuration;
+	private final DoubleHistogram hashDuration;
+	private final LongCounter rejectedCounter;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingProperties properties, Meter meter) {
+		this.delegate = delegate;
+		this.retryAfterSeconds = properties.getRetryAfterSeconds();
+
+		int threads = properties.getThreads() > 0 ? properties.getThreads() : Runtime.getRuntime().availableProcessors();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(properties.getQueueCapacity()),
+				namedThreadFactory(),
+				new ThreadPoolExecutor.AbortPolicy());
+		log.info("비밀번호 해시 스레드 풀: threads={}, queueCapacity={}", threads, properties.getQueueCapacity());
+
+		this.waitDuration = meter.histogramBuilder("auth.password_hash.wait.duration")
+				.setDescription("비밀번호 해시 작업이 대기열에서 기다린 시간")
+				.setUnit("ms")
+				.build();
+		this.hashDuration = meter.histogramBuilder("auth.password_hash.duration")
+				.setDescription("비밀번호 해시 작업 실행 시간")
+				.setUnit("ms")
+				.build();
+		this.rejectedCounter = meter.counterBuilder("auth.password_hash.rejected")
+				.setDescription("대기열이 가득 차 거부된 비밀번호 해시 작업 수")
+				.setUnit("1")
+				.build();
+		meter.gaugeBuilder("auth.password_hash.queue.depth")
+				.ofLongs()
+				.setDescription("비밀번호 해시 대기열 길이")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(executor.getQueue().size()));
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return execute(() -> delegate.encode(rawPassword), ENCODE);
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return execute(() -> delegate.matches(rawPassword, encodedPassword), MATCHES);
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// 해시 문자열만 확인하므로 호출 스레드에서 바로 실행합니다.
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	private <T> T execute(Supplier<T> task, Attributes operation) {
+		long submittedAt = System.nanoTime();
+		Future<T> future;
+		try {
+			future = executor.submit(() -> {
+				long startedAt = System.nanoTime();
+				waitDuration.record((startedAt - submittedAt) / 1_000_000.0, operation);
+				try {
+					return task.get();
+				} finally {
+					hashDuration.record((System.nanoTime() - startedAt) / 1_000_000.0, operation);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			rejectedCounter.add(1, operation);
+			throw new PasswordHashingOverloadedException("요청이 많아 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+		}
+
+		try {
+			return future.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			throw new IllegalStateException("비밀번호 해시 대기 중 인터럽트되었습니다.", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw new IllegalStateException("비밀번호 해시 중 오류가 발생했습니다.", e.getCause());
+		}
+	}
+
+	private static ThreadFactory namedThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "password-hash-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@Override
+	public void close() {
+		executor.shutdown();
+	}
+}
@@ -1,22 +1,83 @@
 package com.likelion.lionpay_auth.security;
 
 import com.likelion.lionpay_auth.entity.User;
-import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.function.Supplier;
 
-@Getter
 public class CustomUserDetails implements UserDetails {
 
-	private final User user;
+	private final String userId;
+	private final String phone;
+	private final String name;
+	private final String status;
+	// CLAIMS 인증 모드에서는 전체 사용자 정보를 getUser()가 처음 호출될 때 조회합니다.
+	private final Supplier<User> userLoader;
+	private volatile User user;
 
 	public CustomUserDetails(User user) {
+		this.userId = user.getUserId();
+		this.phone = user.getPhone();
+		this.name = user.getName();
+		this.status = user.getStatus();
+		this.userLoader = () -> user;
 		this.user = user;
 	}
 
+	private CustomUserDetails(VerifiedClaims claims, Supplier<User> userLoader) {
+		this.userId = claims.subject();
+		this.phone = claims.phone();
+		this.name = claims.name();
+		this.status = claims.status();
+		this.userLoader = userLoader;
+	}
+
+	/**
+	 * 토큰의 프로필 클레임으로 사용자 정보를 만듭니다. 저장소 조회는 getUser()를 호출할 때까지 미룹니다.
+	 *
+	 * @param claims     프로필 클레임이 포함된 검증된 USER 토큰 클레임
+	 * @param userLoader 전체 사용자 정보 조회 함수
+	 */
+	public static CustomUserDetails fromClaims(VerifiedClaims claims, Supplier<User> userLoader) {
+		return new CustomUserDetails(claims, userLoader);
+	}
+
+	/**
+	 * 전체 사용자 정보를 반환합니다. 토큰 클레임으로 만든 경우 처음 호출할 때 한 번 조회합니다.
+	 */
+	public User getUser() {
+		User loaded = user;
+		if (loaded == null) {
+			synchronized (this) {
+				loaded = user;
+				if (loaded == null) {
+					loaded = userLoader.get();
+					user = loaded;
+				}
+			}
+		}
+		return loaded;
+	}
+
+	public String getUserId() {
+		return userId;
+	}
+
+	public String getPhone() {
+		return phone;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
 	@Override
 	public Collection<? extends GrantedAuthority> getAuthorities() {
 		return Collections.emptyList();
@@ -24,12 +85,14 @@ public class CustomUserDetails implements UserDetails {
 
 	@Override
 	public String getPassword() {
-		return user.getPassword();
+		// 토큰 인증에는 비밀번호가 필요하지 않으므로 조회를 일으키지 않습니다.
+		User loaded = user;
+		return loaded != null ? loaded.getPassword() : null;
 	}
 
 	@Override
 	public String getUsername() {
-		return user.getPhone();
+		return phone;
 	}
 
 	@Override
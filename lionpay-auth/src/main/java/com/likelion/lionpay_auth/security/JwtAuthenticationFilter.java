@@ -1,15 +1,15 @@
 package com.likelion.lionpay_auth.security;
 
 import com.likelion.lionpay_auth.entity.User;
+import com.likelion.lionpay_auth.exception.UserNotFoundException;
 import com.likelion.lionpay_auth.repository.UserRepository;
 import com.likelion.lionpay_auth.service.JwtService;
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jwts;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -22,11 +22,43 @@ import java.util.List;
 
 @Slf4j // suggestion: 로그를 사용하기 위해 @Slf4j 어노테이션을 추가합니다.
 @Component
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final LongCounter skippedCounter;
+
+    public JwtAuthenticationFilter(JwtService jwtService,
+            UserRepository userRepository,
+            VerifiedTokenCache verifiedTokenCache,
+            AccessTokenDenylist accessTokenDenylist,
+            Meter meter) {
+        this.jwtService = jwtService;
+        this.userRepository = userRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.accessTokenDenylist = accessTokenDenylist;
+        this.skippedCounter = meter.counterBuilder("auth.jwt.verification.skipped")
+                .setDescription("공개 경로라서 토큰 검증을 생략한 요청 수 (Authorization 헤더가 있는 경우)")
+                .setUnit("1")
+                .build();
+    }
+
+    /**
+     * 공개 경로는 토큰을 파싱/검증하지 않습니다. (오래된 토큰을 보내는 클라이언트, 헬스 체크 요청)
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (!PublicRoutes.matches(path)) {
+            return false;
+        }
+        if (request.getHeader("Authorization") != null) {
+            skippedCounter.add(1);
+        }
+        return true;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -43,27 +75,43 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         String token = authHeader.substring(7);
 
         try {
-            if (jwtService.validateToken(token)) {
+            // 토큰은 요청당 한 번만 파싱/서명 검증하고 이후에는 검증된 클레임만 사용합니다.
+            // 캐시가 활성화되어 있으면 이미 검증된 토큰은 서명 검증 없이 캐시에서 꺼냅니다.
+            VerifiedClaims claims = verifiedTokenCache.getOrVerify(token, jwtService::verify).orElse(null);
+            if (claims != null) {
                 // 토큰 issuer 검증 - lionpay-auth에서 발급한 토큰인지 확인
-                if (!jwtService.validateIssuer(token)) {
+                if (!jwtService.validateIssuer(claims)) {
                     log.warn("JWT issuer validation failed");
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                String role = jwtService.getRole(token);
+                // 로그아웃 등으로 폐기된 토큰인지 확인 (대부분 Bloom filter에서 I/O 없이 판정)
+                if (accessTokenDenylist.isRevoked(claims)) {
+                    log.debug("Revoked JWT rejected");
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                String role = claims.role();
 
                 if ("USER".equals(role)) {
                     // It's a USER token
-                    String userId = jwtService.getSubject(token);
-                    User user = null;
+                    String userId = claims.subject();
+                    CustomUserDetails userDetails = null;
 
-                    if (userId != null) {
-                        user = userRepository.findByUserId(userId).orElse(null);
+                    if (userId != null && claims.hasUserProfile()) {
+                        // CLAIMS 인증 모드로 발급된 토큰: 저장소 조회 없이 클레임으로 인증하고, 전체 정보는 필요할 때 조회
+                        userDetails = CustomUserDetails.fromClaims(claims, () -> userRepository.findByUserId(userId)
+                                .orElseThrow(() -> new UserNotFoundException("사용자를 찾을 수 없습니다.")));
+                    } else if (userId != null) {
+                        User user = userRepository.findByUserId(userId).orElse(null);
+                        if (user != null) {
+                            userDetails = new CustomUserDetails(user);
+                        }
                     }
 
-                    if (user != null) {
-                        CustomUserDetails userDetails = new CustomUserDetails(user);
+                    if (userDetails != null) {
                         UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                                 userDetails, null, userDetails.getAuthorities());
                         authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
@@ -71,8 +119,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     }
                 } else if ("ADMIN".equals(role) || "SUPER_ADMIN".equals(role)) {
                     // It's an ADMIN token
-                    String adminId = jwtService.getSubject(token);
-                    String username = jwtService.getUsername(token); // Should be present for admin
+                    String adminId = claims.subject();
+                    String username = claims.username(); // Should be present for admin
                     String authority = "ROLE_" + role;
 
                     if (username != null) {
@@ -0,0 +1,76 @@
+package com.likelion.lionpay_auth.security;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 인증 없이 접근할 수 있는 경로 목록.
+ * SecurityConfig의 permitAll 설정과 JwtAuthenticationFilter의 토큰 처리 생략 판단이 같은 목록을 사용합니다.
+ * 경로는 "/**"로 끝나는 접두사 패턴 또는 정확히 일치하는 경로만 지원하며, 시작 시 한 번 분류해 둡니다.
+ */
+public final class PublicRoutes {
+
+	private PublicRoutes() {
+	}
+
+	/**
+	 * Swagger/OpenAPI, 헬스 체크 경로
+	 */
+	public static final String[] DOCS_AND_HEALTH = {
+			"/openapi/**",
+			"/swagger-ui/**",
+			"/swagger.html",
+			"/actuator/health",
+			"/actuator/**"
+	};
+
+	/**
+	 * 인증 API, 내부 API(X-Internal-Api-Key로 인증), 토큰 검증용 공개키(JWKS)
+	 */
+	public static final String[] AUTH = {
+			"/v1/auth/sign-up",
+			"/v1/auth/sign-in",
+			"/v1/auth/sign-out",
+			"/v1/auth/refresh-token",
+			"/v1/auth/health",
+			"/v1/auth/info",
+			"/v1/auth/introspect",
+			"/.well-known/jwks.json",
+			"/v1/admin/refresh-token",
+			"/v1/admin/sign-in"
+	};
+
+	private static final Set<String> EXACT_PATHS = Arrays.stream(all())
+			.filter(pattern -> !pattern.endsWith("/**"))
+			.collect(Collectors.toUnmodifiableSet());
+
+	// "/openapi/**" -> "/openapi" (자기 자신과 "/openapi/..." 모두 일치)
+	private static final List<String> PREFIXES = Arrays.stream(all())
+			.filter(pattern -> pattern.endsWith("/**"))
+			.map(pattern -> pattern.substring(0, pattern.length() - 3))
+			.toList();
+
+	/**
+	 * 요청 경로(컨텍스트 경로 제외)가 공개 경로인지 확인합니다.
+	 */
+	public static boolean matches(String path) {
+		if (EXACT_PATHS.contains(path)) {
+			return true;
+		}
+		for (String prefix : PREFIXES) {
+			if (path.startsWith(prefix)
+					&& (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String[] all() {
+		String[] all = Arrays.copyOf(DOCS_AND_HEALTH, DOCS_AND_HEALTH.length + AUTH.length);
+		System.arraycopy(AUTH, 0, all, DOCS_AND_HEALTH.length, AUTH.length);
+		return all;
+	}
+}
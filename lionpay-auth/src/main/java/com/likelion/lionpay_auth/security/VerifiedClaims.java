@@ -0,0 +1,38 @@
+package com.likelion.lionpay_auth.security;
+
+import java.time.Instant;
+
+/**
+ * 서명과 만료 검증을 통과한 JWT의 클레임을 담는 불변 객체.
+ * 토큰은 요청당 한 번만 파싱하고, 이후에는 이 객체에서 값을 꺼내 사용합니다.
+ *
+ * @param subject   토큰 주체 (userId 또는 adminId)
+ * @param issuer    발급자
+ * @param audience  대상 서비스
+ * @param role      역할 (USER, ADMIN, SUPER_ADMIN, 리프레시 토큰은 null)
+ * @param username  관리자 사용자명 (관리자 토큰에만 존재)
+ * @param tokenId   토큰 고유 ID (jti, 액세스 토큰에만 존재)
+ * @param phone     사용자 전화번호 (CLAIMS 인증 모드의 USER 토큰에만 존재)
+ * @param name      사용자 이름 (CLAIMS 인증 모드의 USER 토큰에만 존재)
+ * @param status    사용자 상태 (CLAIMS 인증 모드의 USER 토큰에만 존재)
+ * @param expiresAt 만료 시각
+ */
+public record VerifiedClaims(
+		String subject,
+		String issuer,
+		String audience,
+		String role,
+		String username,
+		String tokenId,
+		String phone,
+		String name,
+		String status,
+		Instant expiresAt) {
+
+	/**
+	 * 사용자 프로필 클레임이 포함된 토큰인지 확인합니다.
+	 */
+	public boolean hasUserProfile() {
+		return phone != null && status != null;
+	}
+}
@@ -0,0 +1,154 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임을 보관하는 크기 제한 캐시.
+ * 같은 액세스 토큰이 만료 전까지 반복 전송되므로, 캐시 적중 시 서명 검증과 JSON 파싱을 생략합니다.
+ * 키는 토큰 원문이 아닌 SHA-256 다이제스트이며, 항목은 설정된 최대 TTL과 토큰 exp 중 이른 시각에 만료됩니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+	private static final AttributeKey<String> RESULT = AttributeKey.stringKey("result");
+	private static final AttributeKey<String> REASON = AttributeKey.stringKey("reason");
+	// 가득 차면 최대 크기의 90%까지 한 번에 줄여, 전체 순회가 maxSize/10번의 put마다 한 번만 일어나게 합니다.
+	private static final double EVICTION_TARGET_RATIO = 0.9;
+
+	private final boolean enabled;
+	private final int maxSize;
+	private final int evictionTarget;
+	private final long maxTtlSeconds;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+
+	private final LongCounter lookupCounter;
+	private final LongCounter evictionCounter;
+
+	private record Entry(VerifiedClaims claims, Instant expiresAt) {
+	}
+
+	public VerifiedTokenCache(JwtProperties jwtProperties, Meter meter) {
+		JwtProperties.VerifiedCache config = jwtProperties.getVerifiedCache();
+		this.enabled = config.isEnabled();
+		this.maxSize = config.getMaxSize();
+		this.evictionTarget = (int) (maxSize * EVICTION_TARGET_RATIO);
+		this.maxTtlSeconds = config.getMaxTtlSeconds();
+
+		this.lookupCounter = meter.counterBuilder("auth.jwt.verified_cache.lookups")
+				.setDescription("검증된 토큰 캐시 조회 횟수 (hit, miss)")
+				.setUnit("1")
+				.build();
+		this.evictionCounter = meter.counterBuilder("auth.jwt.verified_cache.evictions")
+				.setDescription("검증된 토큰 캐시 제거 횟수 (expired, size)")
+				.setUnit("1")
+				.build();
+		meter.gaugeBuilder("auth.jwt.verified_cache.size")
+				.ofLongs()
+				.setDescription("검증된 토큰 캐시 항목 수")
+				.setUnit("1")
+				.buildWithCallback(measurement -> measurement.record(entries.size()));
+	}
+
+	/**
+	 * 캐시에 검증된 클레임이 있으면 반환하고, 없으면 verifier로 검증한 뒤 결과를 캐시에 넣습니다.
+	 * 검증에 실패한 토큰은 캐시하지 않습니다.
+	 *
+	 * @param token    JWT 문자열
+	 * @param verifier 캐시 미스 시 사용할 검증 함수 (보통 JwtService::verify)
+	 * @return 검증된 클레임
+	 */
+	public Optional<VerifiedClaims> getOrVerify(String token, Function<String, Optional<VerifiedClaims>> verifier) {
+		if (!enabled) {
+			return verifier.apply(token);
+		}
+
+		String key = digest(token);
+		Instant now = Instant.now();
+		Entry entry = entries.get(key);
+		if (entry != null) {
+			if (now.isBefore(entry.expiresAt())) {
+				lookupCounter.add(1, Attributes.of(RESULT, "hit"));
+				return Optional.of(entry.claims());
+			}
+			if (entries.remove(key, entry)) {
+				evictionCounter.add(1, Attributes.of(REASON, "expired"));
+			}
+		}
+
+		lookupCounter.add(1, Attributes.of(RESULT, "miss"));
+		Optional<VerifiedClaims> verified = verifier.apply(token);
+		verified.ifPresent(claims -> put(key, claims, now));
+		return verified;
+	}
+
+	private void put(String key, VerifiedClaims claims, Instant now) {
+		Instant expiresAt = now.plusSeconds(maxTtlSeconds);
+		if (claims.expiresAt() != null && claims.expiresAt().isBefore(expiresAt)) {
+			expiresAt = claims.expiresAt();
+		}
+		if (!now.isBefore(expiresAt)) {
+			return;
+		}
+
+		// 다른 스레드가 정리 중이면 기다리지 않고 넣습니다. (잠시 maxSize를 조금 넘을 수 있음)
+		if (entries.size() >= maxSize && evictionLock.tryLock()) {
+			try {
+				evict(now);
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+		entries.put(key, new Entry(claims, expiresAt));
+	}
+
+	/**
+	 * 만료된 항목을 먼저 정리하고, 그래도 목표 크기(최대 크기의 90%)보다 많으면 임의의 항목을 제거합니다.
+	 */
+	private void evict(Instant now) {
+		if (entries.size() < maxSize) {
+			return;
+		}
+		entries.entrySet().removeIf(e -> {
+			if (now.isBefore(e.getValue().expiresAt())) {
+				return false;
+			}
+			evictionCounter.add(1, Attributes.of(REASON, "expired"));
+			return true;
+		});
+
+		Iterator<String> keys = entries.keySet().iterator();
+		while (entries.size() > evictionTarget && keys.hasNext()) {
+			keys.next();
+			keys.remove();
+			evictionCounter.add(1, Attributes.of(REASON, "size"));
+		}
+	}
+
+	private static String digest(String token) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			byte[] hash = sha256.digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm is not available", e);
+		}
+	}
+}
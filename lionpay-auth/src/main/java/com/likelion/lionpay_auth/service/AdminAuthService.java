@@ -14,14 +14,21 @@ import com.likelion.lionpay_auth.enums.AdminRole;
 import com.likelion.lionpay_auth.entity.RefreshTokenEntity;
 import com.likelion.lionpay_auth.repository.AdminRepository;
 import com.likelion.lionpay_auth.repository.RefreshTokenRepository;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository.RotationResult;
+import com.likelion.lionpay_auth.security.AccessTokenDenylist;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminAuthService {
@@ -30,6 +37,7 @@ public class AdminAuthService {
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     public TokenResponse signIn(AdminSignInRequest req) {
         AdminEntity admin = adminRepository.findByUsername(req.username())
@@ -39,21 +47,34 @@ public class AdminAuthService {
             throw new PasswordMismatchException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 저장된 해시가 현재 정책보다 오래되었으면 다시 해시해 저장합니다. (실패해도 로그인은 계속)
+        if (passwordEncoder.upgradeEncoding(admin.getPasswordHash())) {
+            try {
+                admin.setPasswordHash(passwordEncoder.encode(req.password()));
+                adminRepository.save(admin);
+            } catch (Exception e) {
+                log.warn("관리자 비밀번호 해시 업그레이드 실패: adminId={}", admin.getAdminId(), e);
+            }
+        }
+
         String accessToken = jwtService.generateAccessToken(admin.getAdminId(), admin.getUsername(), admin.getRole());
         String refreshToken = jwtService.generateRefreshToken(admin.getAdminId()); // Subject for admin token is adminId
 
-        saveRefreshToken(admin.getAdminId(), refreshToken);
+        saveRefreshToken(admin, refreshToken);
 
         return new TokenResponse(accessToken, refreshToken);
     }
 
-    public void logout(String adminId, String refreshToken) {
-        // suggestion: 리프레시 토큰의 SK는 고정값이므로, PK와 고정된 SK로 조회한 후 토큰 문자열을 비교하여 삭제합니다.
-        String pk = DynamoDBConstants.USER_PREFIX + adminId;
-        String sk = DynamoDBConstants.REFRESH_TOKEN_SK;
+    public void logout(String adminId, String refreshToken, String accessToken) {
+        // 액세스 토큰도 만료 전까지 사용할 수 없도록 폐기합니다.
+        if (accessToken != null) {
+            jwtService.verify(accessToken).ifPresent(accessTokenDenylist::revoke);
+        }
+
 
-        refreshTokenRepository.findByPkAndSk(pk, sk)
-                .filter(tokenEntity -> tokenEntity.getToken().equals(refreshToken)) // DB의 토큰과 요청의 토큰이 일치하는지 확인
+        // 토큰 해시 키로 조회한 뒤, 로그아웃하는 관리자의 토큰인지 확인하여 삭제합니다.
+        refreshTokenRepository.findByToken(refreshToken, adminId)
+                .filter(tokenEntity -> adminId.equals(tokenEntity.getUserId())) // 요청한 관리자의 토큰인지 확인
                 .ifPresentOrElse(
                         refreshTokenRepository::delete, // 토큰이 존재하고 일치하면 삭제
                         () -> {
@@ -120,45 +141,94 @@ public class AdminAuthService {
     }
 
     // suggestion: 관리자 전용 토큰 재발급 로직을 추가합니다.
+    /**
+     * 관리자 리프레시 토큰을 교체하고 새 액세스 토큰을 발급합니다.
+     * 토큰 항목 GetItem(강한 일관성) 1회 + 교체 트랜잭션 1회로 끝나며 GSI를 읽지 않습니다.
+     * 트랜잭션이 토큰 항목에 담아 둔 관리자 정보(adminId, role)를 관리자 항목과 비교하므로, 액세스 토큰은 그 정보로 만듭니다.
+     * 관리자 정보가 바뀌었거나 이전 형식 토큰이면 관리자를 기본 키로 한 번 더 읽습니다.
+     */
     public TokenResponse refreshAdminToken(String refreshToken) {
-        if (!jwtService.validateToken(refreshToken)) {
-            throw new InvalidTokenException("유효하지 않은 리프레시 토큰입니다.");
-        }
+        VerifiedClaims claims = jwtService.verify(refreshToken)
+                .orElseThrow(() -> new InvalidTokenException("유효하지 않은 리프레시 토큰입니다."));
+
+        String adminId = claims.subject();
 
-        // suggestion: 리프레시 토큰을 조회할 때, PK/SK가 아닌 GSI(byRefreshToken 인덱스)를 사용해야 합니다.
-        // 1. GSI를 사용하여 리프레시 토큰 문자열로 엔티티를 조회합니다.
-        RefreshTokenEntity tokenEntity = refreshTokenRepository.findByRefreshToken(refreshToken)
+        // 1. 토큰 항목 조회 (다른 종류(사용자)의 토큰이면 거절)
+        RefreshTokenEntity current = refreshTokenRepository.findByToken(refreshToken, adminId)
+                .filter(token -> token.getOwnerPk() == null || token.getOwnerPk().startsWith(DynamoDBConstants.ADMIN_PREFIX))
                 .orElseThrow(() -> new InvalidTokenException("DB에 존재하지 않거나 만료된 토큰입니다."));
 
-        // 2. 토큰의 주체(adminId)로 관리자 정보 조회
-        AdminEntity admin = adminRepository.findByAdminId(tokenEntity.getUserId())
-                .orElseThrow(() -> new AdminNotFoundException("해당 토큰의 관리자를 찾을 수 없습니다."));
+        AdminEntity admin = current.getOwnerPk() != null && current.getOwnerRole() != null
+                ? ownerOf(current)
+                : loadOwner(current.getOwnerPk(), adminId);
+        String newRefreshToken = jwtService.generateRefreshToken(adminId);
+
+        // 2. 기존 토큰 삭제 + 새 토큰 저장 + 관리자 정보 확인을 한 트랜잭션으로
+        for (int attempt = 0; ; attempt++) {
+            RotationResult result = refreshTokenRepository.rotate(current, refreshToken,
+                    newRefreshToken(admin, newRefreshToken), expectedOwner(admin));
+            if (result == RotationResult.ROTATED) {
+                break;
+            }
+            if (result == RotationResult.TOKEN_USED || attempt > 0) {
+                throw new InvalidTokenException("이미 사용되었거나 유효하지 않은 토큰입니다.");
+            }
+            // 역할 변경 등으로 관리자 정보가 바뀌었으면 최신 정보로 한 번 더 시도합니다.
+            admin = loadOwner(admin.getPk(), adminId);
+        }
 
-        // 3. 새로운 토큰 생성
+        // 3. 새로운 액세스 토큰 생성
         String newAccessToken = jwtService.generateAccessToken(admin.getAdminId(), admin.getUsername(),
                 admin.getRole());
-        String newRefreshToken = jwtService.generateRefreshToken(admin.getAdminId());
-
-        // 4. 기존 토큰 삭제 및 새 토큰 저장 (토큰 순환)
-        refreshTokenRepository.delete(tokenEntity);
-        saveRefreshToken(admin.getAdminId(), newRefreshToken);
 
         return new TokenResponse(newAccessToken, newRefreshToken);
     }
 
-    private void saveRefreshToken(String adminId, String token) {
-        Date expiresAtDate = jwtService.getExpirationFromToken(token);
-        String expiresAtString = String.valueOf(expiresAtDate.toInstant().getEpochSecond());
+    // 토큰 항목에 담아 둔 관리자 정보 (username은 PK에 포함)
+    private static AdminEntity ownerOf(RefreshTokenEntity token) {
+        AdminEntity admin = new AdminEntity();
+        admin.setPk(token.getOwnerPk());
+        admin.setSk(DynamoDBConstants.INFO_SK);
+        admin.setAdminId(token.getUserId());
+        admin.setUsername(token.getOwnerPk().substring(DynamoDBConstants.ADMIN_PREFIX.length()));
+        admin.setRole(AdminRole.valueOf(token.getOwnerRole()));
+        return admin;
+    }
+
+    // 토큰 소유자를 기본 키로 읽습니다. (ownerPk가 없는 이전 형식 토큰은 adminId로 조회)
+    private AdminEntity loadOwner(String ownerPk, String adminId) {
+        Optional<AdminEntity> owner = ownerPk != null
+                ? adminRepository.findByUsernameConsistent(ownerPk.substring(DynamoDBConstants.ADMIN_PREFIX.length()))
+                : adminRepository.findByAdminId(adminId);
+        return owner
+                .filter(found -> adminId.equals(found.getAdminId()))
+                .orElseThrow(() -> new AdminNotFoundException("해당 토큰의 관리자를 찾을 수 없습니다."));
+    }
+
+    private static Map<String, String> expectedOwner(AdminEntity admin) {
+        Map<String, String> expected = new LinkedHashMap<>();
+        expected.put("adminId", admin.getAdminId());
+        expected.put("role", admin.getRole() != null ? admin.getRole().name() : null);
+        return expected;
+    }
+
+    private void saveRefreshToken(AdminEntity admin, String token) {
+        refreshTokenRepository.save(newRefreshToken(admin, token));
+    }
+
+    private RefreshTokenEntity newRefreshToken(AdminEntity admin, String token) {
+        Instant now = Instant.now();
+        String expiresAtString = String.valueOf(jwtService.refreshTokenExpiration(now).getEpochSecond());
 
         RefreshTokenEntity rt = new RefreshTokenEntity();
         // suggestion: 단일 테이블 설계에 맞게 PK와 SK를 설정합니다.
-        rt.setPk(DynamoDBConstants.USER_PREFIX + adminId); // Admin의 리프레시 토큰도 User ID 기반으로 저장
+        rt.setPk(RefreshTokenRepository.partitionKeyOf(token)); // 토큰 원문 대신 해시를 PK로 저장
         rt.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
-        rt.setUserId(adminId);
-        rt.setToken(token);
-        rt.setCreatedAt(Instant.now().toString());
+        rt.setUserId(admin.getAdminId());
+        rt.setCreatedAt(now.toString());
         rt.setExpiresAt(expiresAtString);
-
-        refreshTokenRepository.save(rt);
+        rt.setOwnerPk(admin.getPk());
+        rt.setOwnerRole(admin.getRole() != null ? admin.getRole().name() : null);
+        return rt;
     }
 }
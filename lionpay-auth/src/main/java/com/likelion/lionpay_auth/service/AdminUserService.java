@@ -1,20 +1,29 @@
 package com.likelion.lionpay_auth.service;
 
+import com.likelion.lionpay_auth.config.UserStatsProperties;
 import com.likelion.lionpay_auth.dto.AdminUserListResponse;
 import com.likelion.lionpay_auth.dto.AdminUserResponse;
+import com.likelion.lionpay_auth.dto.AdminUserStatsResponse;
 import com.likelion.lionpay_auth.entity.User;
 import com.likelion.lionpay_auth.exception.UserNotFoundException;
 import com.likelion.lionpay_auth.repository.UserRepository;
+import com.likelion.lionpay_auth.repository.UserStatsRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
 public class AdminUserService {
 
     private final UserRepository userRepository;
+    private final UserStatsRepository userStatsRepository;
+    private final UserStatsProperties userStatsProperties;
 
     /**
      * 전화번호 또는 userId로 단일 사용자를 조회합니다.
@@ -38,19 +47,20 @@ public class AdminUserService {
     }
 
     /**
-     * 모든 사용자를 조회하고 페이징을 적용합니다.
-     * 프론트엔드 호환성을 위해 page/size 기반 페이징을 유지합니다.
+     * 모든 사용자를 가입일 최신순으로 조회하고 페이징을 적용합니다.
+     * 프론트엔드 호환성을 위해 page/size 응답 형식을 유지하며, 다음 페이지는 응답의 lastKey로 이어서 조회합니다.
      *
-     * @param page 페이지 번호 (0부터 시작)
-     * @param size 페이지 당 항목 수
+     * @param page    페이지 번호 (표시용, 0부터 시작)
+     * @param size    페이지 당 항목 수
+     * @param lastKey 이전 페이지 응답의 lastKey (null이면 처음부터 시작)
      * @return 페이징된 사용자 목록
      */
-    public AdminUserListResponse findAllUsers(int page, int size) {
-        return findAllUsersPaginated(size, null, page);
+    public AdminUserListResponse findAllUsers(int page, int size, String lastKey) {
+        return findAllUsersPaginated(size, lastKey, page);
     }
 
     /**
-     * DynamoDB 페이지네이션을 사용하여 사용자를 조회합니다.
+     * 사용자 목록 GSI를 샤드별로 병합해 사용자를 조회합니다.
      *
      * @param size    페이지 당 항목 수
      * @param lastKey 이전 페이지의 마지막 키 (null이면 처음부터 시작)
@@ -59,7 +69,7 @@ public class AdminUserService {
      */
     public AdminUserListResponse findAllUsersPaginated(int size, String lastKey, int page) {
         UserRepository.PaginatedResult<User> result = userRepository.findAllPaginated(size, lastKey);
-        long totalCount = userRepository.countAll();
+        long totalCount = userStatsRepository.getStats().totalCount();
 
         List<AdminUserResponse> users = result.items().stream()
                 .map(AdminUserResponse::from)
@@ -67,4 +77,23 @@ public class AdminUserService {
 
         return AdminUserListResponse.of(page, size, totalCount, result.lastKey(), users);
     }
+
+    /**
+     * 전체 사용자 수, 상태별 사용자 수, 최근 일별 가입 수를 조회합니다.
+     * 가입 기록이 없는 날은 0으로 채웁니다.
+     *
+     * @return 사용자 통계
+     */
+    public AdminUserStatsResponse getUserStats() {
+        UserStatsRepository.UserStats stats = userStatsRepository.getStats();
+
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        Map<String, Long> dailySignUps = new LinkedHashMap<>();
+        for (int daysAgo = userStatsProperties.getDailySignUpDays() - 1; daysAgo >= 0; daysAgo--) {
+            String day = today.minusDays(daysAgo).toString();
+            dailySignUps.put(day, stats.dailySignUps().getOrDefault(day, 0L));
+        }
+
+        return new AdminUserStatsResponse(stats.totalCount(), stats.countByStatus(), dailySignUps);
+    }
 }
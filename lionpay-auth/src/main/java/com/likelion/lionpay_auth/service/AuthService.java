@@ -12,7 +12,11 @@ import com.likelion.lionpay_auth.exception.InvalidCredentialsException;
 import com.likelion.lionpay_auth.exception.InvalidTokenException;
 import com.likelion.lionpay_auth.exception.UserAlreadyExistsException;
 import com.likelion.lionpay_auth.repository.RefreshTokenRepository;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository.RotationResult;
 import com.likelion.lionpay_auth.repository.UserRepository;
+import com.likelion.lionpay_auth.repository.UserStatsRepository;
+import com.likelion.lionpay_auth.security.AccessTokenDenylist;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
 import io.opentelemetry.api.common.AttributeKey;
 import io.opentelemetry.api.common.Attributes;
 import io.opentelemetry.api.metrics.LongCounter;
@@ -22,30 +26,38 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
-import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Slf4j
 public class AuthService {
 
 	private final UserRepository userRepository;
+	private final UserStatsRepository userStatsRepository;
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final JwtService jwtService;
+	private final AccessTokenDenylist accessTokenDenylist;
 
 	// OpenTelemetry 커스텀 메트릭: 인증 시도 카운터
 	private final LongCounter authCounter;
 
 	public AuthService(
 			UserRepository userRepository,
+			UserStatsRepository userStatsRepository,
 			RefreshTokenRepository refreshTokenRepository,
 			PasswordEncoder passwordEncoder,
 			JwtService jwtService,
+			AccessTokenDenylist accessTokenDenylist,
 			Meter meter) {
 		this.userRepository = userRepository;
+		this.userStatsRepository = userStatsRepository;
 		this.refreshTokenRepository = refreshTokenRepository;
 		this.passwordEncoder = passwordEncoder;
 		this.jwtService = jwtService;
+		this.accessTokenDenylist = accessTokenDenylist;
 
 		// 커스텀 메트릭 초기화
 		this.authCounter = meter.counterBuilder("auth.attempts")
@@ -54,12 +66,12 @@ public class AuthService {
 				.build();
 	}
 
+	/**
+	 * 사용자와 첫 리프레시 토큰을 한 번의 트랜잭션으로 저장합니다.
+	 * 중복 확인을 따로 조회하지 않고 조건부 쓰기로 처리하므로, 같은 전화번호로 동시에 가입해도 하나만 성공합니다.
+	 */
 	// 🚨 수정된 부분: SignInResponse를 반환하도록 변경 (이전 수정 반영)
 	public SignInResponse signUp(SignUpRequest request) {
-		if (userRepository.existsByPhone(request.getPhone())) {
-			throw new UserAlreadyExistsException("이미 존재하는 사용자입니다");
-		}
-
 		User user = User.builder()
 				.phone(request.getPhone())
 				.password(passwordEncoder.encode(request.getPassword()))
@@ -68,23 +80,23 @@ public class AuthService {
 
 		user.prePersist();
 
-		// 1. 사용자 저장 (회원가입)
-		User savedUser = userRepository.save(user);
-		log.info("회원가입 완료: {}", savedUser);
-
-		// 2. 토큰 생성
-		String accessToken = jwtService.generateAccessToken(savedUser.getUserId());
-		String refreshToken = jwtService.generateRefreshToken(savedUser.getUserId());
+		// 1. 토큰 생성
+		String accessToken = jwtService.generateAccessToken(user);
+		String refreshToken = jwtService.generateRefreshToken(user.getUserId());
 
-		// 3. Refresh Token 저장
-		saveRefreshToken(savedUser.getUserId(), refreshToken);
+		// 2. 사용자 + Refresh Token 저장 (회원가입)
+		if (!userRepository.create(user, newRefreshToken(user, refreshToken))) {
+			throw new UserAlreadyExistsException("이미 존재하는 사용자입니다");
+		}
+		userStatsRepository.recordSignUp(user);
+		log.info("회원가입 완료: {}", user);
 
-		// 4. 토큰과 사용자 정보를 포함하여 응답
+		// 3. 토큰과 사용자 정보를 포함하여 응답
 		return SignInResponse.builder()
 				.accessToken(accessToken)
 				.refreshToken(refreshToken)
-				.phone(savedUser.getPhone())
-				.name(savedUser.getName())
+				.phone(user.getPhone())
+				.name(user.getName())
 				.build();
 	}
 
@@ -108,14 +120,16 @@ public class AuthService {
 			throw new PasswordMismatchException("비밀번호가 일치하지 않습니다");
 		}
 
+		upgradePasswordHash(user, request.getPassword());
+
 		// 🚨🚨🚨 핵심 수정: 기존 Refresh Token 전체 삭제 (보안 강화)
 		// 로그인 성공 시, 해당 사용자가 보유한 모든 기기의 Refresh Token을 무효화합니다.
 		refreshTokenRepository.deleteAllByUserId(user.getUserId());
 
-		String accessToken = jwtService.generateAccessToken(user.getUserId());
+		String accessToken = jwtService.generateAccessToken(user);
 		String refreshToken = jwtService.generateRefreshToken(user.getUserId());
 
-		saveRefreshToken(user.getUserId(), refreshToken);
+		saveRefreshToken(user, refreshToken);
 
 		// 성공 메트릭 기록
 		authCounter.add(1, Attributes.of(
@@ -130,40 +144,83 @@ public class AuthService {
 				.build();
 	}
 
+	/**
+	 * 저장된 해시가 현재 정책(알고리즘, cost)보다 오래되었으면 로그인에 성공한 비밀번호로 다시 해시해 저장합니다.
+	 * 업그레이드에 실패해도 로그인은 계속 진행합니다.
+	 */
+	private void upgradePasswordHash(User user, String rawPassword) {
+		if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+			return;
+		}
+		try {
+			user.setPassword(passwordEncoder.encode(rawPassword));
+			user.setUpdatedAt(Instant.now().toString());
+			userRepository.save(user);
+			log.info("비밀번호 해시를 현재 정책으로 업그레이드했습니다: userId={}", user.getUserId());
+		} catch (Exception e) {
+			log.warn("비밀번호 해시 업그레이드 실패: userId={}", user.getUserId(), e);
+		}
+	}
+
 	public void signOut(String accessToken) {
 		try {
 			// Bearer 접두사 제거
 			String tokenWithoutBearer = accessToken.startsWith("Bearer ") ? accessToken.substring(7) : accessToken;
 
-			// UserId 추출
-			String userId = jwtService.getSubject(tokenWithoutBearer);
-			refreshTokenRepository.deleteAllByUserId(userId);
+			VerifiedClaims claims = jwtService.verify(tokenWithoutBearer)
+					.orElseThrow(() -> new InvalidTokenException("유효하지 않은 토큰입니다"));
+			refreshTokenRepository.deleteAllByUserId(claims.subject());
+
+			// 액세스 토큰도 만료 전까지 사용할 수 없도록 폐기합니다.
+			accessTokenDenylist.revoke(claims);
 		} catch (Exception e) {
 			log.warn("SignOut failed", e);
 		}
 	}
 
 	public void signOutByRefreshToken(String refreshToken) {
-		refreshTokenRepository.deleteByToken(refreshToken);
+		// subject는 이전 형식 항목을 찾을 때만 쓰이므로, 만료 등으로 검증에 실패해도 해시 키 항목은 삭제합니다.
+		String subject = jwtService.verify(refreshToken).map(VerifiedClaims::subject).orElse(null);
+		refreshTokenRepository.deleteByToken(refreshToken, subject);
 	}
 
+	/**
+	 * 리프레시 토큰을 교체하고 새 액세스 토큰을 발급합니다.
+	 * 토큰 항목 GetItem(강한 일관성) 1회 + 교체 트랜잭션 1회로 끝납니다.
+	 * 액세스 토큰은 토큰 항목에 담아 둔 소유자 정보로 만들고, 트랜잭션이 그 정보가 사용자 항목과 같은지 확인합니다.
+	 * 소유자 정보가 바뀌었거나 이전 형식 토큰이면 사용자를 기본 키로 한 번 더 읽습니다.
+	 */
 	public SignInResponse refreshAccessToken(String refreshToken) {
-		if (!jwtService.validateToken(refreshToken)) {
-			throw new InvalidTokenException("유효하지 않은 리프레시 토큰입니다");
-		}
+		VerifiedClaims claims = jwtService.verify(refreshToken)
+				.orElseThrow(() -> new InvalidTokenException("유효하지 않은 리프레시 토큰입니다"));
 
-		RefreshTokenEntity tokenEntity = refreshTokenRepository.findByRefreshToken(refreshToken)
-				.orElseThrow(() -> new InvalidTokenException("제공되어진 리프레시 토큰을 찾을수 없습니다"));
+		String userId = claims.subject();
 
-		String userId = jwtService.getSubject(refreshToken);
-		User user = userRepository.findByUserId(userId) // Note: This repository method needs to be checked/added
-				.orElseThrow(() -> new InvalidCredentialsException("사용자를 찾을 수 없습니다"));
+		// 1. 토큰 항목 조회 (다른 종류(관리자)의 토큰이면 거절)
+		RefreshTokenEntity current = refreshTokenRepository.findByToken(refreshToken, userId)
+				.filter(token -> token.getOwnerPk() == null || token.getOwnerPk().startsWith(DynamoDBConstants.USER_PREFIX))
+				.orElseThrow(() -> new InvalidTokenException("제공되어진 리프레시 토큰을 찾을수 없습니다"));
 
-		String newAccessToken = jwtService.generateAccessToken(userId);
+		User user = current.getOwnerPk() != null && current.getOwnerStatus() != null
+				? ownerOf(current)
+				: loadOwner(current.getOwnerPk(), userId);
 		String newRefreshToken = jwtService.generateRefreshToken(userId);
 
-		refreshTokenRepository.delete(tokenEntity);
-		saveRefreshToken(user.getUserId(), newRefreshToken);
+		// 2. 기존 토큰 삭제 + 새 토큰 저장 + 사용자 정보 확인을 한 트랜잭션으로
+		for (int attempt = 0; ; attempt++) {
+			RotationResult result = refreshTokenRepository.rotate(current, refreshToken,
+					newRefreshToken(user, newRefreshToken), expectedOwner(user));
+			if (result == RotationResult.ROTATED) {
+				break;
+			}
+			if (result == RotationResult.TOKEN_USED || attempt > 0) {
+				throw new InvalidTokenException("이미 사용되었거나 유효하지 않은 리프레시 토큰입니다");
+			}
+			// 사용자 정보가 바뀌었으면 최신 정보로 한 번 더 시도합니다.
+			user = loadOwner(user.getPk(), userId);
+		}
+
+		String newAccessToken = jwtService.generateAccessToken(user);
 
 		return SignInResponse.builder()
 				.accessToken(newAccessToken)
@@ -173,21 +230,64 @@ public class AuthService {
 				.build();
 	}
 
-	private void saveRefreshToken(String userId, String token) {
-		Date expiresAtDate = jwtService.getExpirationFromToken(token);
-		String expiresAtString = String.valueOf(expiresAtDate.toInstant().getEpochSecond());
+	/**
+	 * 토큰 항목에 담아 둔 소유자 정보
+	 */
+	private static User ownerOf(RefreshTokenEntity token) {
+		return User.builder()
+				.pk(token.getOwnerPk())
+				.sk(DynamoDBConstants.INFO_SK)
+				.userId(token.getUserId())
+				.phone(token.getOwnerPk().substring(DynamoDBConstants.USER_PREFIX.length()))
+				.name(token.getOwnerName())
+				.status(token.getOwnerStatus())
+				.build();
+	}
+
+	/**
+	 * 토큰 소유자를 기본 키로 읽습니다. 가입 여부 Bloom filter와 캐시는 거치지 않습니다.
+	 * ownerPk가 없는 이전 형식 토큰은 userId로 조회합니다.
+	 */
+	private User loadOwner(String ownerPk, String userId) {
+		Optional<User> owner = ownerPk != null
+				? userRepository.findByPhoneConsistent(ownerPk.substring(DynamoDBConstants.USER_PREFIX.length()))
+				: userRepository.findByUserId(userId);
+		return owner
+				.filter(found -> userId.equals(found.getUserId()))
+				.orElseThrow(() -> new InvalidCredentialsException("사용자를 찾을 수 없습니다"));
+	}
+
+	// 액세스 토큰과 응답에 쓰는 사용자 정보 (phone은 PK에 포함)
+	private static Map<String, String> expectedOwner(User user) {
+		Map<String, String> expected = new LinkedHashMap<>();
+		expected.put("userId", user.getUserId());
+		expected.put("name", user.getName());
+		expected.put("status", user.getStatus());
+		return expected;
+	}
+
+	private void saveRefreshToken(User user, String token) {
+		refreshTokenRepository.save(newRefreshToken(user, token));
+	}
+
+	private RefreshTokenEntity newRefreshToken(User user, String token) {
+		String userId = user.getUserId();
+		Instant now = Instant.now();
+		String expiresAtString = String.valueOf(jwtService.refreshTokenExpiration(now).getEpochSecond());
 
 		RefreshTokenEntity rt = new RefreshTokenEntity();
 
 		// suggestion: 단일 테이블 설계에 맞게 PK와 SK를 설정합니다.
-		rt.setPk(DynamoDBConstants.USER_PREFIX + userId);
+		// 토큰 원문은 저장하지 않고 해시를 PK로 써서 토큰만으로 조회합니다.
+		rt.setPk(RefreshTokenRepository.partitionKeyOf(token));
 		rt.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
 
 		rt.setUserId(userId);
-		rt.setToken(token); // 실제 토큰은 별도 속성에 저장
-		rt.setCreatedAt(Instant.now().toString());
+		rt.setCreatedAt(now.toString());
 		rt.setExpiresAt(expiresAtString);
-
-		refreshTokenRepository.save(rt);
+		rt.setOwnerPk(user.getPk());
+		rt.setOwnerName(user.getName());
+		rt.setOwnerStatus(user.getStatus());
+		return rt;
 	}
 }
@@ -0,0 +1,39 @@
+package com.likelion.lionpay_auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 토큰 종류(audience, role)별로 미리 컴파일한 페이로드 템플릿.
+ * 고정 클레임(iss, aud, role)으로 된 JSON 앞부분을 공백으로 3바이트 배수에 맞춘 뒤 한 번만 base64url 인코딩해 두고,
+ * 토큰마다 달라지는 부분(sub, 가변 클레임, exp)만 인코딩해 이어 붙입니다.
+ * base64는 3바이트 단위로 인코딩되므로 두 세그먼트를 이어 붙인 결과는 전체를 한 번에 인코딩한 값과 같습니다.
+ */
+final class CompactTokenTemplate {
+
+	private final String encodedPrefix;
+
+	CompactTokenTemplate(String issuer, String audience, String role) {
+		StringBuilder prefix = new StringBuilder(96).append('{');
+		Hs256TokenCodec.appendString(prefix, "iss", issuer);
+		Hs256TokenCodec.appendString(prefix, "aud", audience);
+		Hs256TokenCodec.appendString(prefix, "role", role);
+
+		// JSON은 토큰 사이 공백을 허용하므로 공백으로 길이를 3바이트 배수로 맞춥니다.
+		while (prefix.toString().getBytes(StandardCharsets.UTF_8).length % 3 != 0) {
+			prefix.append(' ');
+		}
+		this.encodedPrefix = Hs256TokenCodec.base64Url(prefix.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * 템플릿 뒤에 가변 클레임을 이어 붙인 페이로드 세그먼트를 만듭니다. iat는 기록하지 않습니다.
+	 */
+	String encodePayload(String subject, Map<String, String> variableClaims, long expiresAtSeconds) {
+		StringBuilder json = new StringBuilder(96);
+		Hs256TokenCodec.appendString(json, "sub", subject);
+		variableClaims.forEach((name, value) -> Hs256TokenCodec.appendString(json, name, value));
+		json.append("\"exp\":").append(expiresAtSeconds).append('}');
+		return encodedPrefix + Hs256TokenCodec.base64Url(json.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
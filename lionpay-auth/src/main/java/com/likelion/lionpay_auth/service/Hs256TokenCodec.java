@@ -0,0 +1,218 @@
+package com.likelion.lionpay_auth.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * JwtService 전용 HS256 서명/검증 엔진.
+ * jjwt 빌더/파서를 거치지 않고 미리 인코딩한 헤더 세그먼트, 풀링된 Mac, 바이트 단위 서명 비교를 사용합니다.
+ * 생성되는 토큰은 jjwt가 {"alg":"HS256"} 헤더로 만드는 토큰과 바이트 단위로 동일합니다.
+ */
+final class Hs256TokenCodec {
+
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	static final String HEADER_SEGMENT = base64Url("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+	private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+
+	private final Mac prototype;
+	private final Queue<Mac> macPool = new ConcurrentLinkedQueue<>();
+	private final JsonFactory jsonFactory = new JsonFactory();
+
+	Hs256TokenCodec(byte[] keyBytes) {
+		try {
+			this.prototype = Mac.getInstance(ALGORITHM);
+			this.prototype.init(new SecretKeySpec(keyBytes, ALGORITHM));
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("HS256 Mac을 초기화할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * jjwt 빌더와 같은 순서(sub, iss, aud, 추가 클레임, iat, exp)로 클레임을 직렬화하고 서명합니다.
+	 */
+	String sign(String subject, String issuer, String audience, Map<String, String> claims,
+			long issuedAtSeconds, long expiresAtSeconds) {
+		StringBuilder json = new StringBuilder(192).append('{');
+		appendString(json, "sub", subject);
+		appendString(json, "iss", issuer);
+		appendString(json, "aud", audience);
+		claims.forEach((name, value) -> appendString(json, name, value));
+		json.append("\"iat\":").append(issuedAtSeconds)
+				.append(",\"exp\":").append(expiresAtSeconds)
+				.append('}');
+
+		return signPayloadSegment(base64Url(json.toString().getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * 이미 base64url로 인코딩된 페이로드 세그먼트에 헤더를 붙이고 서명합니다. (CompactTokenTemplate용)
+	 */
+	String signPayloadSegment(String payloadSegment) {
+		String signingInput = HEADER_SEGMENT + '.' + payloadSegment;
+		return signingInput + '.' + base64Url(mac(signingInput.getBytes(StandardCharsets.US_ASCII)));
+	}
+
+	/**
+	 * 이 엔진이 만든 형식({"alg":"HS256"} 헤더의 JWS)인지 확인합니다. 아니면 jjwt 파서로 처리해야 합니다.
+	 */
+	boolean supports(String token) {
+		return token.startsWith(HEADER_SEGMENT)
+				&& token.length() > HEADER_SEGMENT.length()
+				&& token.charAt(HEADER_SEGMENT.length()) == '.';
+	}
+
+	/**
+	 * 서명, exp, nbf를 검증하고 클레임을 반환합니다. 검증에 실패하면 빈 Optional을 반환합니다.
+	 */
+	Optional<VerifiedClaims> verify(String token, Instant now) {
+		int payloadStart = HEADER_SEGMENT.length() + 1;
+		int signatureDot = token.indexOf('.', payloadStart);
+		if (signatureDot < 0 || token.indexOf('.', signatureDot + 1) >= 0) {
+			return Optional.empty();
+		}
+
+		byte[] expected = mac(token.substring(0, signatureDot).getBytes(StandardCharsets.US_ASCII));
+		byte[] actual;
+		byte[] payload;
+		try {
+			actual = DECODER.decode(token.substring(signatureDot + 1));
+			payload = DECODER.decode(token.substring(payloadStart, signatureDot));
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+		if (!MessageDigest.isEqual(expected, actual)) {
+			return Optional.empty();
+		}
+
+		return readClaims(payload, now);
+	}
+
+	private Optional<VerifiedClaims> readClaims(byte[] payload, Instant now) {
+		String subject = null;
+		String issuer = null;
+		String audience = null;
+		String role = null;
+		String username = null;
+		String tokenId = null;
+		String phone = null;
+		String name = null;
+		String status = null;
+		Long exp = null;
+		Long nbf = null;
+
+		try (JsonParser parser = jsonFactory.createParser(payload)) {
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return Optional.empty();
+			}
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+				String field = parser.currentName();
+				JsonToken value = parser.nextToken();
+				switch (field) {
+					case "sub" -> subject = textOrNull(parser, value);
+					case "iss" -> issuer = textOrNull(parser, value);
+					case "aud" -> audience = textOrNull(parser, value);
+					case "role" -> role = textOrNull(parser, value);
+					case "username" -> username = textOrNull(parser, value);
+					case "jti" -> tokenId = textOrNull(parser, value);
+					case "phone" -> phone = textOrNull(parser, value);
+					case "name" -> name = textOrNull(parser, value);
+					case "status" -> status = textOrNull(parser, value);
+					case "exp" -> exp = value.isNumeric() ? parser.getLongValue() : null;
+					case "nbf" -> nbf = value.isNumeric() ? parser.getLongValue() : null;
+					default -> parser.skipChildren();
+				}
+			}
+		} catch (IOException e) {
+			return Optional.empty();
+		}
+
+		// jjwt와 동일하게 exp < now 이면 만료, now < nbf 이면 아직 유효하지 않음
+		long nowMillis = now.toEpochMilli();
+		if (exp != null && nowMillis > exp * 1000) {
+			return Optional.empty();
+		}
+		if (nbf != null && nowMillis < nbf * 1000) {
+			return Optional.empty();
+		}
+
+		Instant expiresAt = exp != null ? Instant.ofEpochSecond(exp) : null;
+		return Optional.of(new VerifiedClaims(subject, issuer, audience, role, username, tokenId,
+				phone, name, status, expiresAt));
+	}
+
+	private static String textOrNull(JsonParser parser, JsonToken value) throws IOException {
+		if (value == JsonToken.VALUE_STRING) {
+			return parser.getText();
+		}
+		parser.skipChildren();
+		return null;
+	}
+
+	private byte[] mac(byte[] input) {
+		Mac mac = macPool.poll();
+		if (mac == null) {
+			try {
+				mac = (Mac) prototype.clone();
+			} catch (CloneNotSupportedException e) {
+				throw new IllegalStateException("HS256 Mac을 복제할 수 없습니다.", e);
+			}
+		}
+		try {
+			return mac.doFinal(input);
+		} finally {
+			macPool.offer(mac);
+		}
+	}
+
+	/**
+	 * Jackson 직렬화와 동일한 규칙으로 JSON 문자열 필드를 추가합니다.
+	 */
+	static void appendString(StringBuilder json, String name, String value) {
+		if (value == null) {
+			return;
+		}
+		json.append('"').append(name).append("\":\"");
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"' -> json.append("\\\"");
+				case '\\' -> json.append("\\\\");
+				case '\b' -> json.append("\\b");
+				case '\t' -> json.append("\\t");
+				case '\n' -> json.append("\\n");
+				case '\f' -> json.append("\\f");
+				case '\r' -> json.append("\\r");
+				default -> {
+					if (c < 0x20) {
+						json.append("\\u00").append(HEX[c >> 4]).append(HEX[c & 0xF]);
+					} else {
+						json.append(c);
+					}
+				}
+			}
+		}
+		json.append("\",");
+	}
+
+	static String base64Url(byte[] bytes) {
+		return ENCODER.encodeToString(bytes);
+	}
+}
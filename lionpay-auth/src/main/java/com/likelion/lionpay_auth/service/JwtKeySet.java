@@ -0,0 +1,169 @@
+package com.likelion.lionpay_auth.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.likelion.lionpay_auth.config.JwtProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.MessageDigest;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.ECGenParameterSpec;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비대칭(ES256) 토큰 서명 키 집합.
+ * 서명에는 활성 키 하나만 사용하고, 검증 시에는 토큰 헤더의 kid로 공개키를 바로 찾습니다.
+ * 모든 공개키는 JWKS(RFC 7517) 형식으로 미리 직렬화해 두어 /.well-known/jwks.json에서 그대로 내려줍니다.
+ */
+@Slf4j
+@Component
+public class JwtKeySet {
+
+	public static final String ES256 = "ES256";
+
+	private final boolean asymmetric;
+	private final String activeKeyId;
+	private final PrivateKey activePrivateKey;
+	private final Map<String, PublicKey> publicKeys;
+	private final String jwksJson;
+	private final String jwksEtag;
+
+	public JwtKeySet(JwtProperties jwtProperties) {
+		JwtProperties.Signing signing = jwtProperties.getSigning();
+		this.asymmetric = ES256.equalsIgnoreCase(signing.getAlgorithm());
+
+		Map<String, PublicKey> loadedPublicKeys = new LinkedHashMap<>();
+		PrivateKey loadedPrivateKey = null;
+		String loadedActiveKeyId = null;
+
+		if (asymmetric) {
+			try {
+				KeyFactory keyFactory = KeyFactory.getInstance("EC");
+				for (JwtProperties.SigningKey key : signing.getKeys()) {
+					loadedPublicKeys.put(key.getKid(), keyFactory.generatePublic(
+							new X509EncodedKeySpec(Base64.getDecoder().decode(key.getPublicKey()))));
+					if (key.getKid().equals(signing.getActiveKeyId())) {
+						if (key.getPrivateKey() == null || key.getPrivateKey().isBlank()) {
+							throw new IllegalStateException("활성 서명 키에 private-key가 없습니다: " + key.getKid());
+						}
+						loadedPrivateKey = keyFactory.generatePrivate(
+								new PKCS8EncodedKeySpec(Base64.getDecoder().decode(key.getPrivateKey())));
+						loadedActiveKeyId = key.getKid();
+					}
+				}
+
+				if (loadedPrivateKey == null) {
+					if (!signing.getKeys().isEmpty()) {
+						throw new IllegalStateException("active-key-id에 해당하는 서명 키가 없습니다: " + signing.getActiveKeyId());
+					}
+					// 키가 설정되지 않은 로컬 환경에서는 임시 키를 생성합니다. (재시작하면 기존 토큰은 무효)
+					log.warn("jwt.signing.keys가 비어 있어 임시 ES256 키를 생성합니다. 운영 환경에서는 키를 설정하세요.");
+					KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+					generator.initialize(new ECGenParameterSpec("secp256r1"));
+					KeyPair keyPair = generator.generateKeyPair();
+					loadedActiveKeyId = UUID.randomUUID().toString();
+					loadedPrivateKey = keyPair.getPrivate();
+					loadedPublicKeys.put(loadedActiveKeyId, keyPair.getPublic());
+				}
+			} catch (GeneralSecurityException | IllegalArgumentException e) {
+				throw new IllegalStateException("ES256 서명 키를 불러올 수 없습니다.", e);
+			}
+		}
+
+		this.activeKeyId = loadedActiveKeyId;
+		this.activePrivateKey = loadedPrivateKey;
+		this.publicKeys = Collections.unmodifiableMap(loadedPublicKeys);
+		this.jwksJson = toJwksJson(publicKeys);
+		this.jwksEtag = etag(jwksJson);
+	}
+
+	public boolean isAsymmetric() {
+		return asymmetric;
+	}
+
+	public String getActiveKeyId() {
+		return activeKeyId;
+	}
+
+	public PrivateKey getActivePrivateKey() {
+		return activePrivateKey;
+	}
+
+	/**
+	 * kid로 검증용 공개키를 조회합니다. 키를 하나씩 시도하지 않고 Map에서 바로 찾습니다.
+	 */
+	public Optional<PublicKey> findPublicKey(String kid) {
+		return kid == null ? Optional.empty() : Optional.ofNullable(publicKeys.get(kid));
+	}
+
+	public String getJwksJson() {
+		return jwksJson;
+	}
+
+	public String getJwksEtag() {
+		return jwksEtag;
+	}
+
+	private static String toJwksJson(Map<String, PublicKey> publicKeys) {
+		List<Map<String, String>> keys = new ArrayList<>();
+		publicKeys.forEach((kid, publicKey) -> {
+			ECPublicKey ecKey = (ECPublicKey) publicKey;
+			Map<String, String> jwk = new LinkedHashMap<>();
+			jwk.put("kty", "EC");
+			jwk.put("crv", "P-256");
+			jwk.put("kid", kid);
+			jwk.put("use", "sig");
+			jwk.put("alg", ES256);
+			jwk.put("x", coordinate(ecKey.getW().getAffineX()));
+			jwk.put("y", coordinate(ecKey.getW().getAffineY()));
+			keys.add(jwk);
+		});
+
+		Map<String, Object> jwks = new HashMap<>();
+		jwks.put("keys", keys);
+		try {
+			return new ObjectMapper().writeValueAsString(jwks);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("JWKS를 직렬화할 수 없습니다.", e);
+		}
+	}
+
+	/**
+	 * P-256 좌표를 32바이트 고정 길이 big-endian으로 맞춘 뒤 base64url로 인코딩합니다.
+	 */
+	private static String coordinate(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		byte[] fixed = new byte[32];
+		int length = Math.min(bytes.length, 32);
+		System.arraycopy(bytes, bytes.length - length, fixed, 32 - length, length);
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+	}
+
+	private static String etag(String json) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(json.getBytes(StandardCharsets.UTF_8));
+			return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("SHA-256 algorithm is not available", e);
+		}
+	}
+}
@@ -1,13 +1,22 @@
 package com.likelion.lionpay_auth.service;
 
 import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.entity.User;
 import com.likelion.lionpay_auth.enums.AdminRole;
+import com.likelion.lionpay_auth.enums.TokenProfile;
+import com.likelion.lionpay_auth.enums.UserAuthMode;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import java.nio.charset.StandardCharsets;
@@ -15,31 +24,101 @@ import java.security.Key;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+@Slf4j
 @Service
 public class JwtService {
 
     private final JwtProperties jwtProperties;
     private final Key signingKey;
+    // 파서와 HS256 엔진은 스레드 안전하므로 한 번만 만들어 재사용합니다.
+    private final JwtParser jwtParser;
+    private final Hs256TokenCodec hs256Codec;
+    private final JwtKeySet keySet;
+    private final boolean compact;
+    // false이면 kid 없이 공유 비밀키로 서명된 토큰을 받지 않습니다.
+    private final boolean acceptHs256;
+    // "audience|role" -> 미리 인코딩한 COMPACT 프로필 페이로드 템플릿
+    private final Map<String, CompactTokenTemplate> compactTemplates = new ConcurrentHashMap<>();
 
-    public JwtService(JwtProperties jwtProperties) {
+    public JwtService(JwtProperties jwtProperties, JwtKeySet keySet) {
         this.jwtProperties = jwtProperties;
+        this.keySet = keySet;
+        this.acceptHs256 = jwtProperties.getSigning().isAcceptHs256();
+        if (!acceptHs256 && !keySet.isAsymmetric()) {
+            throw new IllegalStateException("jwt.signing.accept-hs256=false는 ES256 서명에서만 사용할 수 있습니다.");
+        }
         // Support both Base64 encoded secret (from JwtUtil) or raw string
         byte[] keyBytes = jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8);
         this.signingKey = Keys.hmacShaKeyFor(keyBytes);
+        // kid가 있으면 키 집합에서 공개키를 바로 찾고, 없으면 HMAC 키로 검증합니다. (accept-hs256일 때만)
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        String kid = header.getKeyId();
+                        if (kid == null) {
+                            if (!acceptHs256) {
+                                throw new JwtException("kid가 없는 HS256 토큰은 허용하지 않습니다.");
+                            }
+                            return signingKey;
+                        }
+                        return keySet.findPublicKey(kid)
+                                .orElseThrow(() -> new JwtException("알 수 없는 서명 키입니다: " + kid));
+                    }
+                })
+                .build();
+        this.hs256Codec = new Hs256TokenCodec(keyBytes);
+        this.compact = jwtProperties.getTokenProfile() == TokenProfile.COMPACT;
     }
 
     // User Access Token
     public String generateAccessToken(String userId) {
-        return generateToken(userId, Map.of("role", "USER"), jwtProperties.getUserAudience(),
+        Map<String, String> claims = new LinkedHashMap<>();
+        claims.put("jti", UUID.randomUUID().toString());
+        claims.put("role", "USER");
+        return generateToken(userId, claims, jwtProperties.getUserAudience(),
+                jwtProperties.getAccessTokenExpirationMinutes(), ChronoUnit.MINUTES);
+    }
+
+    /**
+     * USER 액세스 토큰을 발급합니다.
+     * CLAIMS 인증 모드에서는 요청마다 사용자를 조회하지 않도록 최소 프로필(phone, name, status)을 클레임에 담습니다.
+     */
+    public String generateAccessToken(User user) {
+        if (jwtProperties.getUserAuthMode() != UserAuthMode.CLAIMS) {
+            return generateAccessToken(user.getUserId());
+        }
+
+        Map<String, String> claims = new LinkedHashMap<>();
+        claims.put("jti", UUID.randomUUID().toString());
+        putIfNotNull(claims, "phone", user.getPhone());
+        putIfNotNull(claims, "name", user.getName());
+        putIfNotNull(claims, "status", user.getStatus());
+        claims.put("role", "USER");
+        return generateToken(user.getUserId(), claims, jwtProperties.getUserAudience(),
                 jwtProperties.getAccessTokenExpirationMinutes(), ChronoUnit.MINUTES);
     }
 
+    private static void putIfNotNull(Map<String, String> claims, String name, String value) {
+        if (value != null) {
+            claims.put(name, value);
+        }
+    }
+
     // Admin Access Token
     public String generateAccessToken(String adminId, String username, AdminRole role) {
-        return generateToken(adminId, Map.of("username", username, "role", role.name()),
-                jwtProperties.getAdminAudience(),
+        // 클레임 순서를 고정하여 같은 입력이면 항상 같은 토큰이 만들어지도록 합니다.
+        Map<String, String> claims = new LinkedHashMap<>();
+        claims.put("jti", UUID.randomUUID().toString());
+        claims.put("username", username);
+        claims.put("role", role.name());
+        return generateToken(adminId, claims, jwtProperties.getAdminAudience(),
                 jwtProperties.getAccessTokenExpirationMinutes(), ChronoUnit.MINUTES);
     }
 
@@ -47,37 +126,117 @@ public class JwtService {
     public String generateRefreshToken(String subject) {
         // Refresh token can share user audience or have its own. Using user audience as
         // default.
-        return generateToken(subject, Map.of(), jwtProperties.getUserAudience(),
+        // COMPACT 프로필에서는 리프레시 토큰에 aud를 넣지 않습니다. (auth 서비스만 검증하므로 불필요)
+        String audience = compact ? null : jwtProperties.getUserAudience();
+        // 토큰 해시가 저장소 키이므로, 같은 subject에게 같은 초에 발급해도 토큰이 달라지도록 jti를 넣습니다.
+        Map<String, String> claims = Map.of("jti", UUID.randomUUID().toString());
+        return generateToken(subject, claims, audience,
                 jwtProperties.getRefreshTokenExpirationDays(), ChronoUnit.DAYS);
     }
 
-    private String generateToken(String subject, Map<String, Object> claims, String audience, long duration,
+    /**
+     * issuedAt에 발급한 리프레시 토큰의 만료 시각 (방금 만든 토큰을 다시 파싱하지 않고 계산)
+     */
+    public Instant refreshTokenExpiration(Instant issuedAt) {
+        return issuedAt.plus(jwtProperties.getRefreshTokenExpirationDays(), ChronoUnit.DAYS);
+    }
+
+    private String generateToken(String subject, Map<String, String> claims, String audience, long duration,
             ChronoUnit unit) {
         Instant now = Instant.now();
         Instant expiration = now.plus(duration, unit);
 
-        return Jwts.builder()
-                .setSubject(subject)
-                .setIssuer(jwtProperties.getIssuer())
-                .setAudience(audience)
-                .addClaims(claims)
-                .setIssuedAt(Date.from(now))
-                .setExpiration(Date.from(expiration))
-                .signWith(signingKey, SignatureAlgorithm.HS256)
-                .compact();
+        if (keySet.isAsymmetric()) {
+            return Jwts.builder()
+                    .setHeaderParam(JwsHeader.KEY_ID, keySet.getActiveKeyId())
+                    .setSubject(subject)
+                    .setIssuer(jwtProperties.getIssuer())
+                    .setAudience(audience)
+                    .addClaims(new LinkedHashMap<>(claims))
+                    .setIssuedAt(compact ? null : Date.from(now))
+                    .setExpiration(Date.from(expiration))
+                    .signWith(keySet.getActivePrivateKey(), SignatureAlgorithm.ES256)
+                    .compact();
+        }
+
+        if (compact) {
+            String role = claims.get("role");
+            CompactTokenTemplate template = compactTemplates.computeIfAbsent(audience + "|" + role,
+                    key -> new CompactTokenTemplate(jwtProperties.getIssuer(), audience, role));
+            Map<String, String> variableClaims = new LinkedHashMap<>(claims);
+            variableClaims.remove("role");
+            return hs256Codec.signPayloadSegment(
+                    template.encodePayload(subject, variableClaims, expiration.getEpochSecond()));
+        }
+
+        return hs256Codec.sign(subject, jwtProperties.getIssuer(), audience, claims,
+                now.getEpochSecond(), expiration.getEpochSecond());
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰 종류별 크기(바이트)를 현재 서명/클레임 프로필 기준으로 계산합니다.
+     * 토큰은 매 요청 헤더와 DynamoDB 항목에 실리므로 프로필 변경 시 크기 비교에 사용합니다.
+     *
+     * @return 토큰 종류 -> 바이트 수
+     */
+    public Map<String, Integer> tokenSizeReport() {
+        String sampleId = UUID.randomUUID().toString();
+        Map<String, Integer> report = new LinkedHashMap<>();
+        User sampleUser = User.builder().userId(sampleId).phone("01012345678").name("홍길동").status("ACTIVE").build();
+        report.put("user_access", generateAccessToken(sampleUser).length());
+        report.put("admin_access", generateAccessToken(sampleId, "admin", AdminRole.SUPER_ADMIN).length());
+        report.put("refresh", generateRefreshToken(sampleId).length());
+        return report;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logTokenSizes() {
+        log.info("JWT 토큰 크기 (profile={}, algorithm={}): {}", jwtProperties.getTokenProfile(),
+                keySet.isAsymmetric() ? JwtKeySet.ES256 : "HS256", tokenSizeReport());
+    }
+
+    /**
+     * 토큰을 한 번만 파싱하여 서명과 만료를 검증하고, 필요한 클레임을 모두 담은 객체를 반환합니다.
+     * 한 요청 안에서 여러 클레임이 필요하면 getXxx(token)을 반복 호출하지 말고 이 메서드를 사용하세요.
+     *
+     * @param token 검증할 JWT 문자열
+     * @return 검증된 클레임, 서명 불일치·만료·형식 오류인 경우 빈 Optional
+     */
+    public Optional<VerifiedClaims> verify(String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+        if (hs256Codec.supports(token)) {
+            return acceptHs256 ? hs256Codec.verify(token, Instant.now()) : Optional.empty();
+        }
+
+        // ES256(kid 헤더) 등 다른 헤더 형식의 토큰은 jjwt 파서로 검증합니다.
+        Claims claims;
         try {
-            parseToken(token);
-            return true;
+            claims = parseToken(token);
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return Optional.empty();
         }
+        Date expiration = claims.getExpiration();
+        return Optional.of(new VerifiedClaims(
+                claims.getSubject(),
+                claims.getIssuer(),
+                claims.getAudience(),
+                claims.get("role", String.class),
+                claims.get("username", String.class),
+                claims.getId(),
+                claims.get("phone", String.class),
+                claims.get("name", String.class),
+                claims.get("status", String.class),
+                expiration != null ? expiration.toInstant() : null));
+    }
+
+    public boolean validateToken(String token) {
+        return verify(token).isPresent();
     }
 
     public String getSubject(String token) {
-        return parseToken(token).getSubject();
+        return verifyOrThrow(token).subject();
     }
 
     // Alias for code compatibility
@@ -91,23 +250,24 @@ public class JwtService {
     }
 
     public String getUsername(String token) {
-        return parseToken(token).get("username", String.class);
+        return verifyOrThrow(token).username();
     }
 
     public String getRole(String token) {
-        return parseToken(token).get("role", String.class);
+        return verifyOrThrow(token).role();
     }
 
     public Date getExpirationFromToken(String token) {
-        return parseToken(token).getExpiration();
+        Instant expiresAt = verifyOrThrow(token).expiresAt();
+        return expiresAt != null ? Date.from(expiresAt) : null;
     }
 
     public String getIssuer(String token) {
-        return parseToken(token).getIssuer();
+        return verifyOrThrow(token).issuer();
     }
 
     public String getAudience(String token) {
-        return parseToken(token).getAudience();
+        return verifyOrThrow(token).audience();
     }
 
     /**
@@ -118,11 +278,18 @@ public class JwtService {
         return jwtProperties.getIssuer().equals(issuer);
     }
 
+    /**
+     * 이미 검증된 클레임의 issuer가 올바른지 확인합니다. 토큰을 다시 파싱하지 않습니다.
+     */
+    public boolean validateIssuer(VerifiedClaims claims) {
+        return jwtProperties.getIssuer().equals(claims.issuer());
+    }
+
+    private VerifiedClaims verifyOrThrow(String token) {
+        return verify(token).orElseThrow(() -> new JwtException("유효하지 않은 토큰입니다."));
+    }
+
     private Claims parseToken(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(signingKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        return jwtParser.parseClaimsJws(token).getBody();
     }
 }
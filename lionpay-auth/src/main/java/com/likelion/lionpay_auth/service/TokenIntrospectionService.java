@@ -0,0 +1,69 @@
+package com.likelion.lionpay_auth.service;
+
+import com.likelion.lionpay_auth.dto.IntrospectResponse;
+import com.likelion.lionpay_auth.dto.IntrospectResponse.TokenIntrospection;
+import com.likelion.lionpay_auth.exception.InvalidApiKeyException;
+import com.likelion.lionpay_auth.security.AccessTokenDenylist;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+import com.likelion.lionpay_auth.security.VerifiedTokenCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+/**
+ * 내부 서비스(게이트웨이, 정산/감사 배치)를 위한 액세스 토큰 일괄 검증 서비스.
+ * 토큰 N개를 HTTP 요청 한 번으로 검증할 수 있도록 합니다.
+ */
+@Service
+public class TokenIntrospectionService {
+
+	private final JwtService jwtService;
+	private final VerifiedTokenCache verifiedTokenCache;
+	private final AccessTokenDenylist accessTokenDenylist;
+	private final byte[] internalApiKey;
+
+	public TokenIntrospectionService(JwtService jwtService,
+			VerifiedTokenCache verifiedTokenCache,
+			AccessTokenDenylist accessTokenDenylist,
+			@Value("${internal.api-key:}") String internalApiKey) {
+		this.jwtService = jwtService;
+		this.verifiedTokenCache = verifiedTokenCache;
+		this.accessTokenDenylist = accessTokenDenylist;
+		this.internalApiKey = internalApiKey.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 토큰 목록을 검증합니다. 결과는 요청 순서를 유지합니다.
+	 *
+	 * @param apiKey 내부 API 키 (X-Internal-Api-Key 헤더)
+	 * @param tokens 검증할 액세스 토큰 목록
+	 * @return 토큰별 검증 결과
+	 */
+	public IntrospectResponse introspect(String apiKey, List<String> tokens) {
+		// 키가 설정되지 않았으면 엔드포인트를 사용할 수 없습니다.
+		if (internalApiKey.length == 0 || apiKey == null
+				|| !MessageDigest.isEqual(internalApiKey, apiKey.getBytes(StandardCharsets.UTF_8))) {
+			throw new InvalidApiKeyException("내부 API 키가 올바르지 않습니다.");
+		}
+
+		List<TokenIntrospection> results = tokens.stream()
+				.map(this::introspect)
+				.toList();
+		return new IntrospectResponse(results);
+	}
+
+	private TokenIntrospection introspect(String token) {
+		VerifiedClaims claims = verifiedTokenCache.getOrVerify(token, jwtService::verify).orElse(null);
+
+		// 리프레시 토큰(role 없음)이나 다른 발급자의 토큰은 유효한 액세스 토큰이 아닙니다.
+		// 폐기된 토큰도 비활성으로 응답합니다.
+		if (claims == null || claims.role() == null || !jwtService.validateIssuer(claims)
+				|| accessTokenDenylist.isRevoked(claims)) {
+			return TokenIntrospection.inactive();
+		}
+		return TokenIntrospection.from(claims);
+	}
+}
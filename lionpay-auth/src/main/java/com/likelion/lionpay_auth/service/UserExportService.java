@@ -0,0 +1,183 @@
+package com.likelion.lionpay_auth.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.likelion.lionpay_auth.config.UserExportProperties;
+import com.likelion.lionpay_auth.dto.AdminUserResponse;
+import com.likelion.lionpay_auth.exception.RateLimitExceededException;
+import com.likelion.lionpay_auth.repository.UserRepository;
+import io.opentelemetry.api.metrics.DoubleHistogram;
+import io.opentelemetry.api.metrics.LongCounter;
+import io.opentelemetry.api.metrics.Meter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전체 사용자를 NDJSON(한 줄에 사용자 하나)으로 내보냅니다.
+ * byListShard GSI를 세그먼트 수만큼 병렬 Scan하고, 각 작업 스레드가 읽은 행을 크기가 제한된 버퍼에 넣으면
+ * 요청 스레드가 꺼내 응답에 씁니다. 응답 쓰기가 느리면 버퍼가 가득 차 스캔이 기다리므로(backpressure)
+ * 사용자 수와 관계없이 메모리에는 버퍼와 세그먼트별 Scan 페이지만 올라갑니다.
+ */
+@Slf4j
+@Service
+public class UserExportService implements AutoCloseable {
+
+	// 세그먼트 하나를 끝까지 읽었음을 알리는 표시
+	private static final Object SEGMENT_DONE = new Object();
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	/**
+	 * 세그먼트 스캔 중 발생한 오류를 요청 스레드로 전달합니다.
+	 */
+	private record Failure(RuntimeException cause) {
+	}
+
+	private final UserRepository userRepository;
+	private final UserExportProperties properties;
+	private final ThreadPoolExecutor executor;
+	private final Semaphore exportSlots;
+	private final ObjectWriter rowWriter = new ObjectMapper().writerFor(AdminUserResponse.class);
+
+	private final LongCounter rowCounter;
+	private final DoubleHistogram exportDuration;
+
+	public UserExportService(UserRepository userRepository, UserExportProperties properties, Meter meter) {
+		this.userRepository = userRepository;
+		this.properties = properties;
+		this.exportSlots = new Semaphore(properties.getMaxConcurrentExports());
+
+		// 동시 내보내기 수를 세마포어로 제한하므로 작업이 스레드 수를 넘어 대기열에 쌓이지 않습니다.
+		int threads = properties.getSegments() * properties.getMaxConcurrentExports();
+		this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), namedThreadFactory());
+
+		this.rowCounter = meter.counterBuilder("auth.user_export.rows")
+				.setDescription("내보낸 사용자 수")
+				.setUnit("1")
+				.build();
+		this.exportDuration = meter.histogramBuilder("auth.user_export.duration")
+				.setDescription("사용자 내보내기 한 번에 걸린 시간")
+				.setUnit("ms")
+				.build();
+	}
+
+	/**
+	 * 전체 사용자를 out에 NDJSON으로 씁니다.
+	 * 클라이언트 연결이 끊기는 등 쓰기에 실패하면 진행 중인 스캔을 모두 중단합니다.
+	 *
+	 * @param out 응답 스트림
+	 * @return 내보낸 사용자 수
+	 */
+	public long export(OutputStream out) throws IOException {
+		if (!exportSlots.tryAcquire()) {
+			throw new RateLimitExceededException("이미 진행 중인 사용자 내보내기가 있습니다. 잠시 후 다시 시도해주세요.",
+					properties.getRetryAfterSeconds());
+		}
+
+		long start = System.nanoTime();
+		int segments = properties.getSegments();
+		BlockingQueue<Object> rows = new ArrayBlockingQueue<>(properties.getBufferSize());
+		AtomicBoolean cancelled = new AtomicBoolean();
+		List<Future<?>> scans = new ArrayList<>(segments);
+		long count = 0;
+
+		try {
+			for (int segment = 0; segment < segments; segment++) {
+				int current = segment;
+				scans.add(executor.submit(() -> scanSegment(current, segments, rows, cancelled)));
+			}
+
+			int finished = 0;
+			while (finished < segments) {
+				Object row = rows.take();
+				if (row == SEGMENT_DONE) {
+					finished++;
+				} else if (row instanceof Failure failure) {
+					throw failure.cause();
+				} else {
+					out.write(rowWriter.writeValueAsBytes(row));
+					out.write('\n');
+					count++;
+				}
+			}
+			out.flush();
+			return count;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IOException("사용자 내보내기가 중단되었습니다.", e);
+		} catch (IOException | RuntimeException e) {
+			log.warn("사용자 내보내기 실패 ({}명 전송 후): {}", count, e.getMessage());
+			throw e;
+		} finally {
+			cancelled.set(true);
+			scans.forEach(scan -> scan.cancel(true));
+			exportSlots.release();
+			rowCounter.add(count);
+			exportDuration.record((System.nanoTime() - start) / 1_000_000.0);
+		}
+	}
+
+	private void scanSegment(int segment, int totalSegments, BlockingQueue<Object> rows, AtomicBoolean cancelled) {
+		try {
+			userRepository.forEachInSegment(segment, totalSegments,
+					user -> put(rows, AdminUserResponse.from(user), cancelled));
+			put(rows, SEGMENT_DONE, cancelled);
+		} catch (CancellationException e) {
+			// 요청 스레드가 내보내기를 끝냈거나 중단함
+		} catch (RuntimeException e) {
+			if (!cancelled.get()) {
+				try {
+					put(rows, new Failure(e), cancelled);
+				} catch (CancellationException ignored) {
+					// 오류를 전달하기 전에 내보내기가 끝남
+				}
+			}
+		}
+	}
+
+	/**
+	 * 버퍼에 자리가 날 때까지 기다립니다. 내보내기가 끝나거나 중단되면 CancellationException으로 스캔을 멈춥니다.
+	 */
+	private static void put(BlockingQueue<Object> rows, Object row, AtomicBoolean cancelled) {
+		try {
+			while (!rows.offer(row, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (cancelled.get()) {
+					throw new CancellationException();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException();
+		}
+	}
+
+	private static ThreadFactory namedThreadFactory() {
+		AtomicInteger sequence = new AtomicInteger();
+		return runnable -> {
+			Thread thread = new Thread(runnable, "user-export-" + sequence.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+}
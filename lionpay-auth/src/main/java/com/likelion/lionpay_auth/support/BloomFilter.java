@@ -0,0 +1,103 @@
+package com.likelion.lionpay_auth.support;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키를 위한 스레드 안전 Bloom filter.
+ * 포함되지 않은 키는 I/O 없이 확실하게 걸러내고, 포함 판정은 거짓 양성일 수 있으므로 저장소에서 다시 확인해야 합니다.
+ * 비트는 AtomicLongArray에 CAS로 설정하므로 락 없이 동시에 추가/조회할 수 있습니다.
+ */
+public class BloomFilter {
+
+	private final AtomicLongArray words;
+	private final long bitCount;
+	private final int hashCount;
+	private final AtomicLong bitsSet = new AtomicLong();
+	private final AtomicLong insertions = new AtomicLong();
+
+	/**
+	 * @param expectedInsertions 예상 항목 수
+	 * @param falsePositiveRate  목표 거짓 양성 비율 (예: 0.01)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+		long n = Math.max(1, expectedInsertions);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		int words = (int) Math.max(1, (m + 63) / 64);
+		this.words = new AtomicLongArray(words);
+		this.bitCount = (long) words * 64;
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+	}
+
+	public void put(String key) {
+		long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			int index = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = words.get(index);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!words.compareAndSet(index, current, current | mask));
+			if ((current & mask) == 0) {
+				bitsSet.incrementAndGet();
+			}
+		}
+		insertions.incrementAndGet();
+	}
+
+	/**
+	 * @return false이면 확실히 없음, true이면 있을 수 있음
+	 */
+	public boolean mightContain(String key) {
+		long hash1 = hash(key, 0x9E3779B97F4A7C15L);
+		long hash2 = hash(key, 0xC2B2AE3D27D4EB4FL) | 1;
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+			if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 설정된 비트의 비율 (0.0 ~ 1.0)
+	 */
+	public double fillRatio() {
+		return (double) bitsSet.get() / bitCount;
+	}
+
+	/**
+	 * 현재 채움 비율로 추정한 거짓 양성 비율 (fillRatio ^ k)
+	 */
+	public double expectedFalsePositiveRate() {
+		return Math.pow(fillRatio(), hashCount);
+	}
+
+	public long insertions() {
+		return insertions.get();
+	}
+
+	/**
+	 * UTF-8 바이트에 대한 64비트 해시 (FNV-1a 누적 후 murmur3 fmix64로 섞음)
+	 */
+	private static long hash(String key, long seed) {
+		long h = seed ^ 0xCBF29CE484222325L;
+		for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+			h ^= b;
+			h *= 0x100000001B3L;
+		}
+		h ^= h >>> 33;
+		h *= 0xFF51AFD7ED558CCDL;
+		h ^= h >>> 33;
+		h *= 0xC4CEB93F5A8B4A7FL;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,226 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.config.RefreshTokenProperties;
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.entity.RefreshTokenEntity;
+import com.likelion.lionpay_auth.enums.TokenProfile;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository.RotationResult;
+import com.likelion.lionpay_auth.service.JwtKeySet;
+import com.likelion.lionpay_auth.service.JwtService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.enhanced.dynamodb.DynamoDbEnhancedClient;
+import software.amazon.awssdk.enhanced.dynamodb.Expression;
+import software.amazon.awssdk.enhanced.dynamodb.TableSchema;
+import software.amazon.awssdk.enhanced.dynamodb.TableMetadata;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.CancellationReason;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItem;
+import software.amazon.awssdk.services.dynamodb.model.TransactionCanceledException;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsRequest;
+import software.amazon.awssdk.services.dynamodb.model.TransactWriteItemsResponse;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenRepositoryTest {
+
+	private static final String TABLE = "auth-table";
+	private static final String OWNER_PK = DynamoDBConstants.USER_PREFIX + "01012345678";
+
+	private final DynamoDbClient dynamoDb = mock(DynamoDbClient.class);
+	private final RefreshTokenRepository repository = new RefreshTokenRepository(
+			DynamoDbEnhancedClient.builder().dynamoDbClient(dynamoDb).build(),
+			new RefreshTokenProperties(), TABLE, 1);
+
+	@AfterEach
+	void closeRepository() {
+		repository.close();
+	}
+
+	private static RefreshTokenEntity tokenItem(String token) {
+		RefreshTokenEntity entity = new RefreshTokenEntity();
+		entity.setPk(RefreshTokenRepository.partitionKeyOf(token));
+		entity.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
+		entity.setUserId("user-id");
+		entity.setOwnerPk(OWNER_PK);
+		return entity;
+	}
+
+	private static JwtService jwtService(TokenProfile profile) {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret("test-secret-key-for-jwt-service-must-be-at-least-256-bits");
+		properties.setIssuer("lionpay-auth");
+		properties.setUserAudience("lionpay-app");
+		properties.setAdminAudience("lionpay-management");
+		properties.setRefreshTokenExpirationDays(7);
+		properties.setTokenProfile(profile);
+		return new JwtService(properties, new JwtKeySet(properties));
+	}
+
+	// 요청 순서(0: 기존 토큰 삭제, 1: 새 토큰 저장, 2: 소유자 확인)대로 취소 사유를 돌려줍니다.
+	private void cancelTransaction(String... codes) {
+		List<CancellationReason> reasons = Arrays.stream(codes)
+				.map(code -> CancellationReason.builder().code(code).build())
+				.toList();
+		when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+				.thenThrow(TransactionCanceledException.builder().message("canceled").cancellationReasons(reasons).build());
+	}
+
+	private RotationResult rotate(String current, String replacement) {
+		return repository.rotate(tokenItem(current), current, tokenItem(replacement), Map.of("userId", "user-id"));
+	}
+
+	private TransactWriteItemsRequest sentTransaction() {
+		ArgumentCaptor<TransactWriteItemsRequest> request = ArgumentCaptor.forClass(TransactWriteItemsRequest.class);
+		verify(dynamoDb).transactWriteItems(request.capture());
+		return request.getValue();
+	}
+
+	@Test
+	void partitionKeyIsStableHashOfToken() {
+		String token = "header.payload.signature";
+
+		String key = RefreshTokenRepository.partitionKeyOf(token);
+
+		assertThat(key).isEqualTo(RefreshTokenRepository.partitionKeyOf(token));
+		assertThat(key).startsWith("REFRESH_TOKEN#").doesNotContain(token).hasSize("REFRESH_TOKEN#".length() + 43);
+		assertThat(RefreshTokenRepository.partitionKeyOf(token + "x")).isNotEqualTo(key);
+	}
+
+	@Test
+	void refreshTokenItemsAreIndexedByOwner() {
+		TableMetadata metadata = TableSchema.fromBean(RefreshTokenEntity.class).tableMetadata();
+
+		assertThat(metadata.primaryPartitionKey()).isEqualTo("pk");
+		assertThat(metadata.indexPartitionKey("byUserId")).isEqualTo("userId");
+		assertThat(metadata.indexSortKey("byUserId")).contains("sk");
+	}
+
+	@Test
+	void ownerCheckComparesSnapshotAndRequiresMissingAttributesToStayMissing() {
+		Map<String, String> expected = new LinkedHashMap<>();
+		expected.put("userId", "u-1");
+		expected.put("name", null);
+
+		Expression expression = RefreshTokenRepository.ownerMatches(expected);
+
+		assertThat(expression.expression()).isEqualTo("attribute_exists(pk) AND #o0 = :o0 AND attribute_not_exists(#o1)");
+		assertThat(expression.expressionNames()).containsEntry("#o0", "userId").containsEntry("#o1", "name");
+		assertThat(expression.expressionValues()).containsOnlyKeys(":o0").containsEntry(":o0", AttributeValue.fromS("u-1"));
+	}
+
+	// 같은 subject에게 같은 초에 발급한 토큰도 키가 달라, 발급 직후 교체해도 한 트랜잭션이 같은 항목을 두 번 쓰지 않습니다.
+	@ParameterizedTest
+	@EnumSource(TokenProfile.class)
+	void tokensIssuedAndRotatedWithinOneSecondUseDistinctKeys(TokenProfile profile) {
+		JwtService jwtService = jwtService(profile);
+		when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+				.thenReturn(TransactWriteItemsResponse.builder().build());
+
+		String signedIn = jwtService.generateRefreshToken("user-id");
+		String otherDevice = jwtService.generateRefreshToken("user-id");
+		String rotated = jwtService.generateRefreshToken("user-id");
+		RotationResult result = repository.rotate(tokenItem(signedIn), signedIn, tokenItem(rotated), Map.of("userId", "user-id"));
+
+		assertThat(signedIn).isNotEqualTo(otherDevice).isNotEqualTo(rotated);
+		assertThat(result).isEqualTo(RotationResult.ROTATED);
+		TransactWriteItemsRequest request = sentTransaction();
+		assertThat(request.transactItems().get(0).delete().key().get("pk").s())
+				.isEqualTo(RefreshTokenRepository.partitionKeyOf(signedIn));
+		assertThat(request.transactItems().get(1).put().item().get("pk").s())
+				.isEqualTo(RefreshTokenRepository.partitionKeyOf(rotated))
+				.isNotEqualTo(RefreshTokenRepository.partitionKeyOf(otherDevice));
+	}
+
+	@Test
+	void rotationToTheSameKeyIsRejectedBeforeSending() {
+		String token = "header.payload.signature";
+
+		assertThatThrownBy(() -> repository.rotate(tokenItem(token), token, tokenItem(token), Map.of("userId", "user-id")))
+				.isInstanceOf(IllegalArgumentException.class);
+		verify(dynamoDb, never()).transactWriteItems(any(TransactWriteItemsRequest.class));
+	}
+
+	@Test
+	void rotationDeletesCurrentPutsReplacementAndChecksOwnerInOneTransaction() {
+		when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+				.thenReturn(TransactWriteItemsResponse.builder().build());
+
+		assertThat(rotate("current-token", "new-token")).isEqualTo(RotationResult.ROTATED);
+
+		List<TransactWriteItem> items = sentTransaction().transactItems();
+		assertThat(items).hasSize(3);
+		assertThat(items.get(0).delete().conditionExpression()).isEqualTo("attribute_exists(pk)");
+		assertThat(items.get(1).put().item().get("pk").s()).isEqualTo(RefreshTokenRepository.partitionKeyOf("new-token"));
+		assertThat(items.get(2).conditionCheck().key())
+				.containsEntry("pk", AttributeValue.fromS(OWNER_PK))
+				.containsEntry("sk", AttributeValue.fromS(DynamoDBConstants.INFO_SK));
+		assertThat(items.get(2).conditionCheck().conditionExpression()).isEqualTo("attribute_exists(pk) AND #o0 = :o0");
+		assertThat(items.get(2).conditionCheck().expressionAttributeValues())
+				.containsEntry(":o0", AttributeValue.fromS("user-id"));
+	}
+
+	@Test
+	void legacyItemIsDeletedOnlyWhileItStillHoldsThePresentedToken() {
+		when(dynamoDb.transactWriteItems(any(TransactWriteItemsRequest.class)))
+				.thenReturn(TransactWriteItemsResponse.builder().build());
+		RefreshTokenEntity legacy = new RefreshTokenEntity();
+		legacy.setPk(DynamoDBConstants.USER_PREFIX + "user-id");
+		legacy.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
+		legacy.setUserId("user-id");
+		legacy.setToken("legacy-token");
+
+		repository.rotate(legacy, "legacy-token", tokenItem("new-token"), Map.of("userId", "user-id"));
+
+		TransactWriteItem delete = sentTransaction().transactItems().get(0);
+		assertThat(delete.delete().key()).containsEntry("pk", AttributeValue.fromS(DynamoDBConstants.USER_PREFIX + "user-id"));
+		assertThat(delete.delete().conditionExpression()).isEqualTo("#token = :current");
+		assertThat(delete.delete().expressionAttributeNames()).containsEntry("#token", "token");
+		assertThat(delete.delete().expressionAttributeValues()).containsEntry(":current", AttributeValue.fromS("legacy-token"));
+	}
+
+	@Test
+	void failedDeleteConditionMeansTokenAlreadyUsed() {
+		cancelTransaction("ConditionalCheckFailed", "None", "None");
+
+		assertThat(rotate("current-token", "new-token")).isEqualTo(RotationResult.TOKEN_USED);
+	}
+
+	@Test
+	void conflictOnTheTokenItemMeansTokenAlreadyUsed() {
+		cancelTransaction("TransactionConflict", "None", "None");
+
+		assertThat(rotate("current-token", "new-token")).isEqualTo(RotationResult.TOKEN_USED);
+	}
+
+	@Test
+	void failedOwnerCheckMeansOwnerChanged() {
+		cancelTransaction("None", "None", "ConditionalCheckFailed");
+
+		assertThat(rotate("current-token", "new-token")).isEqualTo(RotationResult.OWNER_CHANGED);
+	}
+
+	@Test
+	void otherCancellationReasonsPropagate() {
+		cancelTransaction("None", "ThrottlingError", "None");
+
+		assertThatThrownBy(() -> rotate("current-token", "new-token"))
+				.isInstanceOf(TransactionCanceledException.class);
+	}
+}
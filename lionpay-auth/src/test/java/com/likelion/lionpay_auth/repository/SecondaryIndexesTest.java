@@ -0,0 +1,36 @@
+package com.likelion.lionpay_auth.repository;
+
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.awscore.exception.AwsErrorDetails;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SecondaryIndexesTest {
+
+	private static DynamoDbException validation(String message) {
+		return (DynamoDbException) DynamoDbException.builder()
+				.message(message)
+				.awsErrorDetails(AwsErrorDetails.builder().errorCode("ValidationException").errorMessage(message).build())
+				.build();
+	}
+
+	@Test
+	void fallsBackWhileIndexIsMissingOrBackfilling() {
+		assertThat(SecondaryIndexes.<String>queryOrFallback("byUserId",
+				() -> { throw validation("The table does not have the specified index: byUserId"); },
+				() -> "scan")).isEqualTo("scan");
+		assertThat(SecondaryIndexes.<String>queryOrFallback("byUserId",
+				() -> { throw validation("Cannot read from backfilling global secondary index: byUserId"); },
+				() -> "scan")).isEqualTo("scan");
+	}
+
+	@Test
+	void otherErrorsAreNotHidden() {
+		assertThatThrownBy(() -> SecondaryIndexes.<String>queryOrFallback("byUserId",
+				() -> { throw validation("One or more parameter values were invalid"); },
+				() -> "scan"))
+				.isInstanceOf(DynamoDbException.class);
+	}
+}
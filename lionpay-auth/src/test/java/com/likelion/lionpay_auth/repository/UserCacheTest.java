@@ -0,0 +1,99 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.config.UserCacheProperties;
+import com.likelion.lionpay_auth.entity.User;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 캐시의 동시 미스 병합, 무효화, 미존재 사용자 처리를 확인합니다.
+ */
+class UserCacheTest {
+
+	private final UserCache cache = new UserCache(enabledProperties(), OpenTelemetry.noop().getMeter("test"));
+
+	@Test
+	void concurrentMissesTriggerSingleLoad() throws Exception {
+		User user = User.builder().userId("user-1").phone("01012345678").build();
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Optional<User>>> results = new ArrayList<>();
+			for (int i = 0; i < 8; i++) {
+				results.add(executor.submit(() -> cache.getByUserId("user-1", () -> {
+					loads.incrementAndGet();
+					await(release);
+					return Optional.of(user);
+				})));
+			}
+			Thread.sleep(100);
+			release.countDown();
+
+			for (Future<Optional<User>> result : results) {
+				assertThat(result.get(5, TimeUnit.SECONDS)).containsSame(user);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void invalidateDropsBothKeys() {
+		User user = User.builder().userId("user-1").phone("01012345678").build();
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getByUserId("user-1", () -> load(loads, user));
+		cache.getByPhone("01012345678", () -> load(loads, user));
+		cache.getByUserId("user-1", () -> load(loads, user));
+		assertThat(loads).hasValue(2);
+
+		cache.invalidate(user);
+		cache.getByUserId("user-1", () -> load(loads, user));
+		cache.getByPhone("01012345678", () -> load(loads, user));
+		assertThat(loads).hasValue(4);
+	}
+
+	@Test
+	void missingUserIsNotCached() {
+		AtomicInteger loads = new AtomicInteger();
+
+		cache.getByPhone("01000000000", () -> load(loads, null));
+		cache.getByPhone("01000000000", () -> load(loads, null));
+
+		assertThat(loads).hasValue(2);
+	}
+
+	private static Optional<User> load(AtomicInteger loads, User user) {
+		loads.incrementAndGet();
+		return Optional.ofNullable(user);
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static UserCacheProperties enabledProperties() {
+		UserCacheProperties properties = new UserCacheProperties();
+		properties.setEnabled(true);
+		return properties;
+	}
+}
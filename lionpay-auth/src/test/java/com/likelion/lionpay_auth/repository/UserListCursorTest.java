@@ -0,0 +1,46 @@
+package com.likelion.lionpay_auth.repository;
+
+import com.likelion.lionpay_auth.entity.User;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserListCursorTest {
+
+	private static User user(String phone, String createdAt) {
+		return User.builder().pk("USER#" + phone).sk("INFO").phone(phone).createdAt(createdAt).build();
+	}
+
+	@Test
+	void mergesShardsNewestFirstAndResumesFromEncodedCursor() {
+		List<UserListCursor.ShardPage> firstPages = List.of(
+				new UserListCursor.ShardPage(List.of(user("1", "2026-01-05T00:00:00Z"), user("2", "2026-01-02T00:00:00Z")), true),
+				new UserListCursor.ShardPage(List.of(user("3", "2026-01-04T00:00:00Z"), user("4", "2026-01-03T00:00:00Z")), false));
+
+		UserListCursor.Merged first = UserListCursor.start(2).merge(firstPages, 2);
+
+		assertThat(first.items()).extracting(User::getPhone).containsExactly("1", "3");
+		UserListCursor resumed = UserListCursor.decode(first.next().encode(), 2);
+		assertThat(resumed.exclusiveStartKey(0).get("pk").s()).isEqualTo("USER#1");
+		assertThat(resumed.exclusiveStartKey(1).get("createdAt").s()).isEqualTo("2026-01-04T00:00:00Z");
+
+		List<UserListCursor.ShardPage> secondPages = List.of(
+				new UserListCursor.ShardPage(List.of(user("2", "2026-01-02T00:00:00Z")), false),
+				new UserListCursor.ShardPage(List.of(user("4", "2026-01-03T00:00:00Z")), false));
+
+		UserListCursor.Merged second = resumed.merge(secondPages, 2);
+
+		assertThat(second.items()).extracting(User::getPhone).containsExactly("4", "2");
+		assertThat(second.next().encode()).isNull();
+	}
+
+	@Test
+	void malformedOrResizedCursorStartsFromBeginning() {
+		String cursor = UserListCursor.start(2).encode();
+
+		assertThat(UserListCursor.decode(cursor, 3).exclusiveStartKey(0)).isNull();
+		assertThat(UserListCursor.decode("not-a-cursor", 2).exclusiveStartKey(1)).isNull();
+	}
+}
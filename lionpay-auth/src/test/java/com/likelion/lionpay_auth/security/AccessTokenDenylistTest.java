@@ -0,0 +1,58 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.entity.RevokedTokenEntity;
+import com.likelion.lionpay_auth.repository.RevokedTokenRepository;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDenylistTest {
+
+	private static RevokedTokenEntity logEntry(String tokenId, Instant revokedAt) {
+		RevokedTokenEntity entity = new RevokedTokenEntity();
+		entity.setTokenId(tokenId);
+		entity.setRevokedAtMillis(revokedAt.toEpochMilli());
+		return entity;
+	}
+
+	private static VerifiedClaims claims(String tokenId, Instant expiresAt) {
+		return new VerifiedClaims("user-id", "lionpay-auth", "lionpay-app", null, null, tokenId, null, null, null, expiresAt);
+	}
+
+	@Test
+	void refreshReadsOnlyRevocationsAfterHighWaterMark() {
+		RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+		JwtProperties properties = new JwtProperties();
+		properties.setAccessTokenExpirationMinutes(30);
+		AccessTokenDenylist denylist = new AccessTokenDenylist(repository, properties,
+				OpenTelemetry.noop().getMeter("test"));
+
+		when(repository.findUnexpired(any(), any())).thenReturn(List.of());
+		denylist.refresh();
+
+		Instant revokedAt = Instant.now();
+		Instant expiresAt = revokedAt.plus(Duration.ofMinutes(30));
+		when(repository.findRevokedSince(any(), any())).thenReturn(List.of(logEntry("other-instance", revokedAt)));
+		when(repository.exists("other-instance", expiresAt)).thenReturn(true);
+		denylist.refresh();
+		denylist.refresh();
+
+		assertThat(denylist.isRevoked(claims("other-instance", expiresAt))).isTrue();
+		// 전체 목록은 처음 한 번만 읽고, 이후에는 마지막으로 읽은 폐기 시각(허용 오차 포함) 이후만 읽습니다.
+		verify(repository, times(1)).findUnexpired(any(), any());
+		verify(repository).findRevokedSince(eq(revokedAt.minusSeconds(30).truncatedTo(ChronoUnit.MILLIS)), any());
+	}
+}
@@ -0,0 +1,33 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.RateLimitProperties;
+import com.likelion.lionpay_auth.enums.RateLimitPolicy;
+import com.likelion.lionpay_auth.exception.RateLimitExceededException;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 키별로 버킷 크기만큼만 허용하고, 다른 키에는 영향을 주지 않는지 확인합니다.
+ */
+class AuthRateLimiterTest {
+
+	@Test
+	void rejectsWhenBucketIsEmptyPerKey() {
+		RateLimitProperties properties = new RateLimitProperties();
+		properties.setEnabled(true);
+		properties.getPolicies().put(RateLimitPolicy.SIGN_IN_PHONE, new RateLimitProperties.Limit(2, 1));
+		AuthRateLimiter limiter = new AuthRateLimiter(properties, OpenTelemetry.noop().getMeter("test"));
+
+		limiter.acquire(RateLimitPolicy.SIGN_IN_PHONE, "01012345678");
+		limiter.acquire(RateLimitPolicy.SIGN_IN_PHONE, "01012345678");
+
+		assertThatThrownBy(() -> limiter.acquire(RateLimitPolicy.SIGN_IN_PHONE, "01012345678"))
+				.isInstanceOf(RateLimitExceededException.class)
+				.extracting("retryAfterSeconds").isEqualTo(60L);
+		assertThatCode(() -> limiter.acquire(RateLimitPolicy.SIGN_IN_PHONE, "01099999999"))
+				.doesNotThrowAnyException();
+	}
+}
@@ -0,0 +1,64 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.PasswordHashingProperties;
+import com.likelion.lionpay_auth.exception.PasswordHashingOverloadedException;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 대기열이 가득 차면 해시 작업을 기다리지 않고 즉시 거부하는지 확인합니다.
+ */
+class BoundedPasswordEncoderTest {
+
+	@Test
+	void rejectsImmediatelyWhenQueueIsFull() throws Exception {
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		PasswordEncoder blocking = new PasswordEncoder() {
+			@Override
+			public String encode(CharSequence rawPassword) {
+				started.countDown();
+				try {
+					release.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+				return "hash:" + rawPassword;
+			}
+
+			@Override
+			public boolean matches(CharSequence rawPassword, String encodedPassword) {
+				return encodedPassword.equals(encode(rawPassword));
+			}
+		};
+
+		PasswordHashingProperties properties = new PasswordHashingProperties();
+		properties.setThreads(1);
+		properties.setQueueCapacity(1);
+		properties.setRetryAfterSeconds(3);
+
+		try (BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(blocking, properties,
+				OpenTelemetry.noop().getMeter("test"))) {
+			CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+			assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+			CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+			Thread.sleep(100);
+
+			assertThatThrownBy(() -> encoder.encode("c"))
+					.isInstanceOf(PasswordHashingOverloadedException.class)
+					.extracting("retryAfterSeconds").isEqualTo(3L);
+
+			release.countDown();
+			assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("hash:a");
+			assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("hash:b");
+		}
+	}
+}
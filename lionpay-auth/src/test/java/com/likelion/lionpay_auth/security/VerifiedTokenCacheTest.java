@@ -0,0 +1,48 @@
+package com.likelion.lionpay_auth.security;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 가득 찼을 때 최대 크기의 90%까지 한 번에 줄이고, 그 뒤의 put은 정리 없이 들어가는지 확인합니다.
+ */
+class VerifiedTokenCacheTest {
+
+	@Test
+	void evictsDownToNinetyPercentOnlyWhenFull() {
+		JwtProperties properties = new JwtProperties();
+		properties.getVerifiedCache().setEnabled(true);
+		properties.getVerifiedCache().setMaxSize(100);
+		VerifiedTokenCache cache = new VerifiedTokenCache(properties, OpenTelemetry.noop().getMeter("test"));
+		AtomicInteger verifications = new AtomicInteger();
+
+		for (int i = 0; i < 101; i++) {
+			verify(cache, "token-" + i, verifications);
+		}
+
+		// 100개에서 90개로 줄인 뒤 101번째를 넣었으므로 91개가 남아 있어야 합니다. (미스는 캐시하지 않도록 검증 실패로 응답)
+		int cached = 0;
+		for (int i = 0; i < 101; i++) {
+			if (cache.getOrVerify("token-" + i, t -> Optional.empty()).isPresent()) {
+				cached++;
+			}
+		}
+		assertThat(cached).isEqualTo(91);
+		assertThat(verifications).hasValue(101);
+	}
+
+	private static void verify(VerifiedTokenCache cache, String token, AtomicInteger verifications) {
+		cache.getOrVerify(token, t -> {
+			verifications.incrementAndGet();
+			return Optional.of(new VerifiedClaims(t, "issuer", "audience", "USER", null, t, null, null, null,
+					Instant.now().plusSeconds(600)));
+		});
+	}
+}
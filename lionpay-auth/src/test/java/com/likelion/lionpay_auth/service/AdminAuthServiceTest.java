@@ -0,0 +1,109 @@
+package com.likelion.lionpay_auth.service;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.dto.TokenResponse;
+import com.likelion.lionpay_auth.entity.AdminEntity;
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.entity.RefreshTokenEntity;
+import com.likelion.lionpay_auth.enums.AdminRole;
+import com.likelion.lionpay_auth.exception.InvalidTokenException;
+import com.likelion.lionpay_auth.repository.AdminRepository;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository.RotationResult;
+import com.likelion.lionpay_auth.security.AccessTokenDenylist;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 관리자 토큰 재발급이 역할 변경(OWNER_CHANGED) 시 관리자를 다시 읽고 한 번만 재시도하는지 확인합니다.
+ */
+class AdminAuthServiceTest {
+
+	private static final String ADMIN_ID = "admin-id";
+	private static final String USERNAME = "admin";
+
+	private final AdminRepository adminRepository = mock(AdminRepository.class);
+	private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+	private final JwtService jwtService = jwtService();
+	private final AdminAuthService adminAuthService = new AdminAuthService(adminRepository, refreshTokenRepository,
+			mock(PasswordEncoder.class), jwtService, mock(AccessTokenDenylist.class));
+
+	private static JwtService jwtService() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret("test-secret-key-for-jwt-service-must-be-at-least-256-bits");
+		properties.setIssuer("lionpay-auth");
+		properties.setUserAudience("lionpay-app");
+		properties.setAdminAudience("lionpay-management");
+		properties.setAccessTokenExpirationMinutes(30);
+		properties.setRefreshTokenExpirationDays(7);
+		return new JwtService(properties, new JwtKeySet(properties));
+	}
+
+	private static AdminEntity admin(AdminRole role) {
+		AdminEntity admin = new AdminEntity();
+		admin.setPk(DynamoDBConstants.ADMIN_PREFIX + USERNAME);
+		admin.setSk(DynamoDBConstants.INFO_SK);
+		admin.setAdminId(ADMIN_ID);
+		admin.setUsername(USERNAME);
+		admin.setRole(role);
+		return admin;
+	}
+
+	private static RefreshTokenEntity storedToken(String token, AdminRole role) {
+		RefreshTokenEntity entity = new RefreshTokenEntity();
+		entity.setPk(RefreshTokenRepository.partitionKeyOf(token));
+		entity.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
+		entity.setUserId(ADMIN_ID);
+		entity.setOwnerPk(DynamoDBConstants.ADMIN_PREFIX + USERNAME);
+		entity.setOwnerRole(role.name());
+		return entity;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Map<String, String>> expectedOwners(int rotations) {
+		ArgumentCaptor<Map<String, String>> expected = ArgumentCaptor.forClass(Map.class);
+		verify(refreshTokenRepository, times(rotations)).rotate(any(), anyString(), any(), expected.capture());
+		return expected.getAllValues();
+	}
+
+	@Test
+	void changedRoleIsReloadedAndRotationRetriedOnce() {
+		String token = jwtService.generateRefreshToken(ADMIN_ID);
+		when(refreshTokenRepository.findByToken(token, ADMIN_ID)).thenReturn(Optional.of(storedToken(token, AdminRole.SUPER_ADMIN)));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap()))
+				.thenReturn(RotationResult.OWNER_CHANGED, RotationResult.ROTATED);
+		when(adminRepository.findByUsernameConsistent(USERNAME)).thenReturn(Optional.of(admin(AdminRole.ADMIN)));
+
+		TokenResponse response = adminAuthService.refreshAdminToken(token);
+
+		assertThat(jwtService.verify(response.accessToken()).orElseThrow().role()).isEqualTo("ADMIN");
+		List<Map<String, String>> expected = expectedOwners(2);
+		assertThat(expected.get(0)).containsEntry("adminId", ADMIN_ID).containsEntry("role", "SUPER_ADMIN");
+		assertThat(expected.get(1)).containsEntry("role", "ADMIN");
+	}
+
+	@Test
+	void usedTokenIsRejectedWithoutRetry() {
+		String token = jwtService.generateRefreshToken(ADMIN_ID);
+		when(refreshTokenRepository.findByToken(token, ADMIN_ID)).thenReturn(Optional.of(storedToken(token, AdminRole.ADMIN)));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap())).thenReturn(RotationResult.TOKEN_USED);
+
+		assertThatThrownBy(() -> adminAuthService.refreshAdminToken(token)).isInstanceOf(InvalidTokenException.class);
+		expectedOwners(1);
+	}
+}
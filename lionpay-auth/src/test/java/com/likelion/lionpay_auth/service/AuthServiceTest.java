@@ -0,0 +1,188 @@
+package com.likelion.lionpay_auth.service;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.dto.SignInRequest;
+import com.likelion.lionpay_auth.dto.SignInResponse;
+import com.likelion.lionpay_auth.entity.DynamoDBConstants;
+import com.likelion.lionpay_auth.entity.RefreshTokenEntity;
+import com.likelion.lionpay_auth.entity.User;
+import com.likelion.lionpay_auth.exception.InvalidTokenException;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository;
+import com.likelion.lionpay_auth.repository.RefreshTokenRepository.RotationResult;
+import com.likelion.lionpay_auth.repository.UserRepository;
+import com.likelion.lionpay_auth.repository.UserStatsRepository;
+import com.likelion.lionpay_auth.security.AccessTokenDenylist;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 리프레시 토큰 교체 결과(ROTATED, TOKEN_USED, OWNER_CHANGED)에 따른 재발급 흐름을 확인합니다.
+ */
+class AuthServiceTest {
+
+	private static final String USER_ID = "user-id";
+	private static final String PHONE = "+821012345678";
+
+	private final UserRepository userRepository = mock(UserRepository.class);
+	private final RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+	private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+	private final JwtService jwtService = jwtService();
+	private final AuthService authService = new AuthService(userRepository, mock(UserStatsRepository.class),
+			refreshTokenRepository, passwordEncoder, jwtService, mock(AccessTokenDenylist.class),
+			OpenTelemetry.noop().getMeter("test"));
+
+	private static JwtService jwtService() {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret("test-secret-key-for-jwt-service-must-be-at-least-256-bits");
+		properties.setIssuer("lionpay-auth");
+		properties.setUserAudience("lionpay-app");
+		properties.setAdminAudience("lionpay-management");
+		properties.setAccessTokenExpirationMinutes(30);
+		properties.setRefreshTokenExpirationDays(7);
+		return new JwtService(properties, new JwtKeySet(properties));
+	}
+
+	private static User user(String name) {
+		return User.builder()
+				.pk(DynamoDBConstants.USER_PREFIX + PHONE)
+				.sk(DynamoDBConstants.INFO_SK)
+				.userId(USER_ID)
+				.phone(PHONE)
+				.password("hash")
+				.name(name)
+				.status("ACTIVE")
+				.build();
+	}
+
+	private static RefreshTokenEntity storedToken(String token, String ownerName) {
+		RefreshTokenEntity entity = new RefreshTokenEntity();
+		entity.setPk(RefreshTokenRepository.partitionKeyOf(token));
+		entity.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
+		entity.setUserId(USER_ID);
+		entity.setOwnerPk(DynamoDBConstants.USER_PREFIX + PHONE);
+		entity.setOwnerName(ownerName);
+		entity.setOwnerStatus("ACTIVE");
+		return entity;
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<Map<String, String>> expectedOwners(int rotations) {
+		ArgumentCaptor<Map<String, String>> expected = ArgumentCaptor.forClass(Map.class);
+		verify(refreshTokenRepository, times(rotations)).rotate(any(), anyString(), any(), expected.capture());
+		return expected.getAllValues();
+	}
+
+	@Test
+	void refreshRightAfterSignInRotatesToADifferentKey() {
+		when(userRepository.findByPhone(PHONE)).thenReturn(Optional.of(user("홍길동")));
+		when(passwordEncoder.matches("password", "hash")).thenReturn(true);
+		SignInResponse signedIn = authService.signIn(new SignInRequest(PHONE, "password"));
+		ArgumentCaptor<RefreshTokenEntity> saved = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+		verify(refreshTokenRepository).save(saved.capture());
+		when(refreshTokenRepository.findByToken(signedIn.getRefreshToken(), USER_ID)).thenReturn(Optional.of(saved.getValue()));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap())).thenReturn(RotationResult.ROTATED);
+
+		SignInResponse refreshed = authService.refreshAccessToken(signedIn.getRefreshToken());
+
+		ArgumentCaptor<RefreshTokenEntity> replacement = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+		verify(refreshTokenRepository).rotate(eq(saved.getValue()), eq(signedIn.getRefreshToken()), replacement.capture(), anyMap());
+		assertThat(refreshed.getRefreshToken()).isNotEqualTo(signedIn.getRefreshToken());
+		assertThat(replacement.getValue().getPk()).isNotEqualTo(saved.getValue().getPk())
+				.isEqualTo(RefreshTokenRepository.partitionKeyOf(refreshed.getRefreshToken()));
+	}
+
+	@Test
+	void refreshUsesOwnerSnapshotWithoutReadingTheUser() {
+		String token = jwtService.generateRefreshToken(USER_ID);
+		when(refreshTokenRepository.findByToken(token, USER_ID)).thenReturn(Optional.of(storedToken(token, "홍길동")));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap())).thenReturn(RotationResult.ROTATED);
+
+		SignInResponse response = authService.refreshAccessToken(token);
+
+		assertThat(response.getName()).isEqualTo("홍길동");
+		assertThat(response.getPhone()).isEqualTo(PHONE);
+		assertThat(expectedOwners(1).get(0))
+				.containsEntry("userId", USER_ID).containsEntry("name", "홍길동").containsEntry("status", "ACTIVE");
+		verify(userRepository, never()).findByPhoneConsistent(anyString());
+		verify(userRepository, never()).findByPhone(anyString());
+	}
+
+	@Test
+	void changedOwnerIsReloadedByKeyAndRotationRetriedOnce() {
+		String token = jwtService.generateRefreshToken(USER_ID);
+		when(refreshTokenRepository.findByToken(token, USER_ID)).thenReturn(Optional.of(storedToken(token, "이전 이름")));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap()))
+				.thenReturn(RotationResult.OWNER_CHANGED, RotationResult.ROTATED);
+		when(userRepository.findByPhoneConsistent(PHONE)).thenReturn(Optional.of(user("새 이름")));
+
+		SignInResponse response = authService.refreshAccessToken(token);
+
+		assertThat(response.getName()).isEqualTo("새 이름");
+		List<Map<String, String>> expected = expectedOwners(2);
+		assertThat(expected.get(0)).containsEntry("name", "이전 이름");
+		assertThat(expected.get(1)).containsEntry("name", "새 이름");
+		// 소유자는 Bloom filter·캐시를 거치는 findByPhone이 아니라 기본 키로 읽습니다.
+		verify(userRepository, never()).findByPhone(anyString());
+	}
+
+	@Test
+	void ownerChangedTwiceIsRejected() {
+		String token = jwtService.generateRefreshToken(USER_ID);
+		when(refreshTokenRepository.findByToken(token, USER_ID)).thenReturn(Optional.of(storedToken(token, "홍길동")));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap())).thenReturn(RotationResult.OWNER_CHANGED);
+		when(userRepository.findByPhoneConsistent(PHONE)).thenReturn(Optional.of(user("홍길동")));
+
+		assertThatThrownBy(() -> authService.refreshAccessToken(token)).isInstanceOf(InvalidTokenException.class);
+		expectedOwners(2);
+	}
+
+	@Test
+	void usedTokenIsRejectedWithoutRetry() {
+		String token = jwtService.generateRefreshToken(USER_ID);
+		when(refreshTokenRepository.findByToken(token, USER_ID)).thenReturn(Optional.of(storedToken(token, "홍길동")));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap())).thenReturn(RotationResult.TOKEN_USED);
+
+		assertThatThrownBy(() -> authService.refreshAccessToken(token)).isInstanceOf(InvalidTokenException.class);
+		expectedOwners(1);
+		verify(userRepository, never()).findByPhoneConsistent(anyString());
+	}
+
+	@Test
+	void legacyTokenWithoutSnapshotLoadsOwnerFirst() {
+		String token = jwtService.generateRefreshToken(USER_ID);
+		RefreshTokenEntity legacy = new RefreshTokenEntity();
+		legacy.setPk(DynamoDBConstants.USER_PREFIX + USER_ID);
+		legacy.setSk(DynamoDBConstants.REFRESH_TOKEN_SK);
+		legacy.setUserId(USER_ID);
+		legacy.setToken(token);
+		when(refreshTokenRepository.findByToken(token, USER_ID)).thenReturn(Optional.of(legacy));
+		when(userRepository.findByUserId(USER_ID)).thenReturn(Optional.of(user("홍길동")));
+		when(refreshTokenRepository.rotate(any(), anyString(), any(), anyMap())).thenReturn(RotationResult.ROTATED);
+
+		SignInResponse response = authService.refreshAccessToken(token);
+
+		assertThat(response.getName()).isEqualTo("홍길동");
+		ArgumentCaptor<RefreshTokenEntity> replacement = ArgumentCaptor.forClass(RefreshTokenEntity.class);
+		verify(refreshTokenRepository).rotate(eq(legacy), eq(token), replacement.capture(), anyMap());
+		assertThat(replacement.getValue().getOwnerPk()).isEqualTo(DynamoDBConstants.USER_PREFIX + PHONE);
+		assertThat(replacement.getValue().getOwnerName()).isEqualTo("홍길동");
+	}
+}
@@ -0,0 +1,73 @@
+package com.likelion.lionpay_auth.service;
+
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.time.Instant;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * HS256 엔진이 jjwt와 동일한 토큰을 만들고, jjwt가 만든 토큰을 동일하게 검증하는지 확인합니다.
+ */
+class Hs256TokenCodecTest {
+
+	private static final byte[] KEY_BYTES = "test-secret-key-for-hs256-codec-must-be-at-least-256-bits"
+			.getBytes(StandardCharsets.UTF_8);
+
+	private final Key jjwtKey = Keys.hmacShaKeyFor(KEY_BYTES);
+	private final Hs256TokenCodec codec = new Hs256TokenCodec(KEY_BYTES);
+
+	@Test
+	void signProducesSameTokenAsJjwt() {
+		Instant now = Instant.now();
+		Instant expiration = now.plusSeconds(1800);
+		Map<String, String> claims = new LinkedHashMap<>();
+		claims.put("username", "admin \"quoted\"\n");
+		claims.put("role", "SUPER_ADMIN");
+
+		String expected = Jwts.builder()
+				.setSubject("admin-id")
+				.setIssuer("lionpay-auth")
+				.setAudience("lionpay-management")
+				.addClaims(new LinkedHashMap<>(claims))
+				.setIssuedAt(Date.from(now))
+				.setExpiration(Date.from(expiration))
+				.signWith(jjwtKey, SignatureAlgorithm.HS256)
+				.compact();
+
+		String actual = codec.sign("admin-id", "lionpay-auth", "lionpay-management", claims,
+				now.getEpochSecond(), expiration.getEpochSecond());
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@Test
+	void verifyAcceptsJjwtTokenAndRejectsTampering() {
+		Instant now = Instant.now();
+		String token = codec.sign("user-id", "lionpay-auth", "lionpay-app", Map.of("role", "USER"),
+				now.getEpochSecond(), now.plusSeconds(60).getEpochSecond());
+
+		Claims parsed = Jwts.parserBuilder().setSigningKey(jjwtKey).build().parseClaimsJws(token).getBody();
+		VerifiedClaims verified = codec.verify(token, now).orElseThrow();
+
+		assertThat(verified.subject()).isEqualTo(parsed.getSubject());
+		assertThat(verified.issuer()).isEqualTo(parsed.getIssuer());
+		assertThat(verified.audience()).isEqualTo(parsed.getAudience());
+		assertThat(verified.role()).isEqualTo(parsed.get("role", String.class));
+		assertThat(verified.expiresAt()).isEqualTo(parsed.getExpiration().toInstant());
+
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+		assertThat(codec.verify(tampered, now)).isEmpty();
+		assertThat(codec.verify(token, now.plusSeconds(120))).isEmpty();
+	}
+}
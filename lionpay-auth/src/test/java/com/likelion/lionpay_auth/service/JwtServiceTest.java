@@ -0,0 +1,136 @@
+package com.likelion.lionpay_auth.service;
+
+import com.likelion.lionpay_auth.config.JwtProperties;
+import com.likelion.lionpay_auth.entity.User;
+import com.likelion.lionpay_auth.enums.AdminRole;
+import com.likelion.lionpay_auth.enums.TokenProfile;
+import com.likelion.lionpay_auth.enums.UserAuthMode;
+import com.likelion.lionpay_auth.security.VerifiedClaims;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtServiceTest {
+
+	private static JwtProperties properties(String algorithm) {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecret("test-secret-key-for-jwt-service-must-be-at-least-256-bits");
+		properties.setIssuer("lionpay-auth");
+		properties.setUserAudience("lionpay-app");
+		properties.setAdminAudience("lionpay-management");
+		properties.setAccessTokenExpirationMinutes(30);
+		properties.setRefreshTokenExpirationDays(7);
+		properties.getSigning().setAlgorithm(algorithm);
+		return properties;
+	}
+
+	@Test
+	void es256TokensCarryKidAndVerifyAgainstKeySet() {
+		JwtProperties properties = properties("ES256");
+		JwtKeySet keySet = new JwtKeySet(properties);
+		JwtService jwtService = new JwtService(properties, keySet);
+
+		String token = jwtService.generateAccessToken("admin-id", "admin", AdminRole.SUPER_ADMIN);
+		VerifiedClaims claims = jwtService.verify(token).orElseThrow();
+
+		assertThat(claims.subject()).isEqualTo("admin-id");
+		assertThat(claims.role()).isEqualTo("SUPER_ADMIN");
+		assertThat(claims.audience()).isEqualTo("lionpay-management");
+		assertThat(keySet.getJwksJson()).contains("\"kid\":\"" + keySet.getActiveKeyId() + "\"");
+
+		// 다른 키 집합에는 해당 kid가 없으므로 거부됩니다.
+		JwtService otherService = new JwtService(properties, new JwtKeySet(properties));
+		assertThat(otherService.verify(token)).isEmpty();
+	}
+
+	@Test
+	void hs256TokensStillVerifyWhenSigningWithEs256() {
+		JwtService hs256Service = new JwtService(properties("HS256"), new JwtKeySet(properties("HS256")));
+		JwtProperties es256Properties = properties("ES256");
+		JwtService es256Service = new JwtService(es256Properties, new JwtKeySet(es256Properties));
+
+		String legacyToken = hs256Service.generateAccessToken("user-id");
+
+		assertThat(es256Service.verify(legacyToken)).isPresent();
+	}
+
+	@Test
+	void hs256TokensAreRejectedOnceAcceptHs256IsOff() {
+		JwtService hs256Service = new JwtService(properties("HS256"), new JwtKeySet(properties("HS256")));
+		JwtProperties es256Properties = properties("ES256");
+		es256Properties.getSigning().setAcceptHs256(false);
+		JwtService es256Service = new JwtService(es256Properties, new JwtKeySet(es256Properties));
+
+		assertThat(es256Service.verify(hs256Service.generateAccessToken("user-id"))).isEmpty();
+		assertThat(es256Service.verify(es256Service.generateAccessToken("user-id"))).isPresent();
+	}
+
+	@Test
+	void acceptHs256CannotBeTurnedOffWhileSigningWithHs256() {
+		JwtProperties properties = properties("HS256");
+		properties.getSigning().setAcceptHs256(false);
+
+		assertThatThrownBy(() -> new JwtService(properties, new JwtKeySet(properties)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void compactProfileProducesSmallerTokensWithSameClaims() {
+		JwtProperties standardProperties = properties("HS256");
+		JwtProperties compactProperties = properties("HS256");
+		compactProperties.setTokenProfile(TokenProfile.COMPACT);
+		JwtService standardService = new JwtService(standardProperties, new JwtKeySet(standardProperties));
+		JwtService compactService = new JwtService(compactProperties, new JwtKeySet(compactProperties));
+
+		String token = compactService.generateAccessToken("admin-id", "관리자", AdminRole.ADMIN);
+		VerifiedClaims claims = standardService.verify(token).orElseThrow();
+
+		assertThat(claims.subject()).isEqualTo("admin-id");
+		assertThat(claims.issuer()).isEqualTo("lionpay-auth");
+		assertThat(claims.audience()).isEqualTo("lionpay-management");
+		assertThat(claims.username()).isEqualTo("관리자");
+		assertThat(claims.role()).isEqualTo("ADMIN");
+		assertThat(compactService.verify(compactService.generateRefreshToken("user-id"))).isPresent();
+
+		Map<String, Integer> standardSizes = standardService.tokenSizeReport();
+		compactService.tokenSizeReport().forEach((type, size) ->
+				assertThat(size).isLessThan(standardSizes.get(type)));
+	}
+
+	@Test
+	void claimsModeEmbedsUserProfileInAccessToken() {
+		User user = User.builder().userId("user-id").phone("01012345678").name("홍길동").status("ACTIVE").build();
+		JwtProperties lookupProperties = properties("HS256");
+		JwtProperties claimsProperties = properties("HS256");
+		claimsProperties.setUserAuthMode(UserAuthMode.CLAIMS);
+		JwtService lookupService = new JwtService(lookupProperties, new JwtKeySet(lookupProperties));
+		JwtService claimsService = new JwtService(claimsProperties, new JwtKeySet(claimsProperties));
+
+		VerifiedClaims claims = claimsService.verify(claimsService.generateAccessToken(user)).orElseThrow();
+
+		assertThat(claims.hasUserProfile()).isTrue();
+		assertThat(claims.subject()).isEqualTo("user-id");
+		assertThat(claims.phone()).isEqualTo("01012345678");
+		assertThat(claims.name()).isEqualTo("홍길동");
+		assertThat(claims.status()).isEqualTo("ACTIVE");
+		assertThat(claims.role()).isEqualTo("USER");
+		assertThat(lookupService.verify(lookupService.generateAccessToken(user)).orElseThrow().hasUserProfile()).isFalse();
+	}
+
+	@Test
+	void refreshTokensIssuedInTheSameSecondAreDistinct() {
+		JwtProperties compactProperties = properties("HS256");
+		compactProperties.setTokenProfile(TokenProfile.COMPACT);
+		JwtService jwtService = new JwtService(compactProperties, new JwtKeySet(compactProperties));
+
+		String first = jwtService.generateRefreshToken("user-id");
+		String second = jwtService.generateRefreshToken("user-id");
+
+		assertThat(first).isNotEqualTo(second);
+		assertThat(jwtService.verify(first).orElseThrow().tokenId()).isNotNull()
+				.isNotEqualTo(jwtService.verify(second).orElseThrow().tokenId());
+	}
+}
@@ -0,0 +1,73 @@
+package com.likelion.lionpay_auth.service;
+
+import com.likelion.lionpay_auth.config.UserExportProperties;
+import com.likelion.lionpay_auth.entity.User;
+import com.likelion.lionpay_auth.repository.UserRepository;
+import io.opentelemetry.api.OpenTelemetry;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class UserExportServiceTest {
+
+	private static UserExportProperties properties() {
+		UserExportProperties properties = new UserExportProperties();
+		properties.setSegments(4);
+		properties.setBufferSize(8);
+		return properties;
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void streamsEverySegmentAsNdjsonThroughSmallBuffer() throws Exception {
+		UserRepository userRepository = mock(UserRepository.class);
+		doAnswer(invocation -> {
+			int segment = invocation.getArgument(0);
+			Consumer<User> action = invocation.getArgument(2);
+			for (int i = 0; i < 250; i++) {
+				action.accept(User.builder().userId(segment + "-" + i).phone("010" + i).status("ACTIVE").build());
+			}
+			return null;
+		}).when(userRepository).forEachInSegment(anyInt(), eq(4), any(Consumer.class));
+
+		try (UserExportService service = new UserExportService(userRepository, properties(),
+				OpenTelemetry.noop().getMeter("test"))) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+			long count = service.export(out);
+
+			String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+			assertThat(count).isEqualTo(1000);
+			assertThat(lines).hasSize(1000).allMatch(line -> line.startsWith("{\"userId\":\""));
+		}
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void segmentFailureAbortsExportAndReleasesSlot() throws Exception {
+		UserRepository userRepository = mock(UserRepository.class);
+		doAnswer(invocation -> {
+			throw new IllegalStateException("scan failed");
+		}).when(userRepository).forEachInSegment(eq(2), eq(4), any(Consumer.class));
+
+		try (UserExportService service = new UserExportService(userRepository, properties(),
+				OpenTelemetry.noop().getMeter("test"))) {
+			assertThatThrownBy(() -> service.export(new ByteArrayOutputStream()))
+					.isInstanceOf(IllegalStateException.class)
+					.hasMessage("scan failed");
+			// 실패 후에도 다음 내보내기를 시작할 수 있어야 합니다.
+			assertThatThrownBy(() -> service.export(new ByteArrayOutputStream()))
+					.isInstanceOf(IllegalStateException.class);
+		}
+	}
+}
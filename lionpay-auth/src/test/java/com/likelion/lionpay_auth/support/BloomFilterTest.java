@@ -0,0 +1,33 @@
+package com.likelion.lionpay_auth.support;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bloom filter가 추가한 키를 놓치지 않고, 거짓 양성 비율이 목표 근처인지 확인합니다.
+ */
+class BloomFilterTest {
+
+	@Test
+	void neverMissesInsertedKeysAndKeepsFalsePositiveRateNearTarget() {
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		for (int i = 0; i < 10_000; i++) {
+			filter.put("010" + String.format("%08d", i));
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(filter.mightContain("010" + String.format("%08d", i))).isTrue();
+		}
+
+		int falsePositives = 0;
+		for (int i = 10_000; i < 110_000; i++) {
+			if (filter.mightContain("010" + String.format("%08d", i))) {
+				falsePositives++;
+			}
+		}
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+		assertThat(filter.expectedFalsePositiveRate()).isLessThan(0.02);
+		assertThat(filter.fillRatio()).isBetween(0.4, 0.6);
+	}
+}
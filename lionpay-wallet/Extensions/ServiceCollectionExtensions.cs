@@ -1,5 +1,6 @@
 using System.Text;
 using LionPay.Wallet.Exceptions;
+using LionPay.Wallet.Infrastructure;
 using Microsoft.AspNetCore.Authentication.JwtBearer;
 using Microsoft.IdentityModel.JsonWebTokens;
 using Microsoft.IdentityModel.Tokens;
@@ -14,17 +15,30 @@ public static class ServiceCollectionExtensions
         {
             JsonWebTokenHandler.DefaultInboundClaimTypeMap.Clear();
 
+            var jwtSecret = configuration["JWT_SECRET"];
+            var jwksUrl = configuration["JWT_JWKS_URL"];
+            // kid가 없는 HS256 토큰(JWT_SECRET)을 받을지 여부. ES256 전환 중에는 true로 두고,
+            // HS256으로 발급된 토큰이 모두 만료된 뒤 false로 바꾸면 JWT_SECRET 없이 JWKS 키로만 검증합니다.
+            // (lionpay-auth의 jwt.signing.accept-hs256과 함께 바꿉니다.)
+            var acceptHs256 = configuration.GetValue("JWT_ACCEPT_HS256", true);
+
             services.AddAuthentication(JwtBearerDefaults.AuthenticationScheme)
                 .AddJwtBearer(options =>
                 {
                     options.RequireHttpsMetadata = false;
 
-                    var jwtSecret = configuration["JWT_SECRET"];
-                    if (string.IsNullOrEmpty(jwtSecret))
+                    if (string.IsNullOrEmpty(jwksUrl) && (string.IsNullOrEmpty(jwtSecret) || !acceptHs256))
                     {
-                        throw new InvalidOperationException("JWT_SECRET is not configured");
+                        throw new InvalidOperationException(acceptHs256
+                            ? "JWT_SECRET or JWT_JWKS_URL is not configured"
+                            : "JWT_JWKS_URL is required when JWT_ACCEPT_HS256 is false");
                     }
 
+                    // HS256을 받지 않으면 비밀키를 등록하지 않습니다. 등록해 두면 resolver가 키를 찾지 못했을 때 이 키로 다시 검증합니다.
+                    SecurityKey? symmetricKey = string.IsNullOrEmpty(jwtSecret) || !acceptHs256
+                        ? null
+                        : new SymmetricSecurityKey(Encoding.UTF8.GetBytes(jwtSecret));
+
                     options.TokenValidationParameters = new TokenValidationParameters
                     {
                         ValidateIssuerSigningKey = true,
@@ -32,7 +46,7 @@ public static class ServiceCollectionExtensions
                         ValidateAudience = true,
                         RequireExpirationTime = true,
                         ValidateLifetime = true,
-                        IssuerSigningKey = new SymmetricSecurityKey(Encoding.UTF8.GetBytes(jwtSecret)),
+                        IssuerSigningKey = symmetricKey,
                         ValidIssuer = configuration["JWT_ISSUER"],
                         ValidAudiences = configuration["JWT_AUDIENCES"]?.Split(',', StringSplitOptions.RemoveEmptyEntries) ?? []
                     };
@@ -48,6 +62,35 @@ public static class ServiceCollectionExtensions
                         OnForbidden = _ => throw new PermissionDeniedException()
                     };
                 });
+
+            if (!string.IsNullOrEmpty(jwksUrl))
+            {
+                services.AddHttpClient(JwksSigningKeyProvider.HttpClientName, client =>
+                    client.Timeout = JwksSigningKeyProvider.FetchTimeout);
+                services.AddSingleton(sp => new JwksSigningKeyProvider(
+                    jwksUrl,
+                    sp.GetRequiredService<IHttpClientFactory>(),
+                    sp.GetRequiredService<ILogger<JwksSigningKeyProvider>>()));
+                services.AddHostedService(sp => sp.GetRequiredService<JwksSigningKeyProvider>());
+
+                // AddJwtBearer의 설정 뒤에 실행되어야 하므로 그 다음에 등록합니다.
+                // ES256 토큰은 kid로 JWKS 키를 바로 찾고, kid가 없는 HS256 토큰은 공유 비밀키로 검증합니다. (acceptHs256일 때만)
+                services.AddOptions<JwtBearerOptions>(JwtBearerDefaults.AuthenticationScheme)
+                    .Configure<JwksSigningKeyProvider>((options, jwksKeyProvider) =>
+                    {
+                        var symmetricKey = options.TokenValidationParameters.IssuerSigningKey;
+                        options.TokenValidationParameters.IssuerSigningKeyResolver = (_, _, kid, _) =>
+                        {
+                            if (string.IsNullOrEmpty(kid))
+                            {
+                                return symmetricKey is null ? [] : [symmetricKey];
+                            }
+
+                            return jwksKeyProvider.GetKey(kid) is { } key ? [key] : [];
+                        };
+                    });
+            }
+
             return services;
         }
 
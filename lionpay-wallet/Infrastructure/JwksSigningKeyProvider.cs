@@ -0,0 +1,109 @@
+using Microsoft.IdentityModel.Tokens;
+
+namespace LionPay.Wallet.Infrastructure;
+
+/// <summary>
+/// lionpay-auth의 /.well-known/jwks.json에서 토큰 서명 공개키를 받아 kid별로 캐시합니다.
+/// 백그라운드에서 응답의 Cache-Control max-age마다 키 집합 전체를 다시 받아 교체하므로, JWKS에서 빠진 키는 다음 갱신부터 거부됩니다.
+/// 요청 처리 중에는 네트워크를 기다리지 않으며, 알 수 없는 kid가 들어오면 최소 간격을 두고 갱신을 앞당기기만 합니다.
+/// </summary>
+public class JwksSigningKeyProvider(
+    string jwksUrl,
+    IHttpClientFactory httpClientFactory,
+    ILogger<JwksSigningKeyProvider> logger) : BackgroundService
+{
+    public const string HttpClientName = "jwks";
+    public static readonly TimeSpan FetchTimeout = TimeSpan.FromSeconds(5);
+
+    private static readonly TimeSpan MinRefreshInterval = TimeSpan.FromMinutes(1);
+    private static readonly TimeSpan MaxRefreshInterval = TimeSpan.FromHours(1);
+    private static readonly TimeSpan DefaultRefreshInterval = TimeSpan.FromMinutes(10);
+    private static readonly TimeSpan FailureRetryInterval = TimeSpan.FromSeconds(30);
+
+    private readonly SemaphoreSlim _refreshRequested = new(0, 1);
+    private volatile IReadOnlyDictionary<string, SecurityKey> _keys = new Dictionary<string, SecurityKey>();
+    private long _lastRefreshTicks = DateTimeOffset.MinValue.UtcTicks;
+
+    public SecurityKey? GetKey(string kid)
+    {
+        if (_keys.TryGetValue(kid, out var key))
+        {
+            return key;
+        }
+
+        RequestRefresh();
+        return null;
+    }
+
+    protected override async Task ExecuteAsync(CancellationToken stoppingToken)
+    {
+        while (!stoppingToken.IsCancellationRequested)
+        {
+            var delay = await RefreshAsync(stoppingToken);
+            try
+            {
+                // 다음 갱신 시각까지 기다리거나, 알 수 없는 kid로 갱신 요청이 오면 바로 다시 받습니다.
+                await _refreshRequested.WaitAsync(delay, stoppingToken);
+            }
+            catch (OperationCanceledException)
+            {
+                return;
+            }
+        }
+    }
+
+    private void RequestRefresh()
+    {
+        var lastRefresh = new DateTimeOffset(Interlocked.Read(ref _lastRefreshTicks), TimeSpan.Zero);
+        if (DateTimeOffset.UtcNow - lastRefresh < MinRefreshInterval || _refreshRequested.CurrentCount > 0)
+        {
+            return;
+        }
+
+        try
+        {
+            _refreshRequested.Release();
+        }
+        catch (SemaphoreFullException)
+        {
+            // 다른 요청이 이미 갱신을 요청했습니다.
+        }
+    }
+
+    /// <returns>다음 갱신까지 기다릴 시간</returns>
+    private async Task<TimeSpan> RefreshAsync(CancellationToken cancellationToken)
+    {
+        Interlocked.Exchange(ref _lastRefreshTicks, DateTimeOffset.UtcNow.UtcTicks);
+        try
+        {
+            var httpClient = httpClientFactory.CreateClient(HttpClientName);
+            using var response = await httpClient.GetAsync(jwksUrl, cancellationToken);
+            response.EnsureSuccessStatusCode();
+
+            var json = await response.Content.ReadAsStringAsync(cancellationToken);
+            var jwks = new JsonWebKeySet(json);
+            _keys = jwks.Keys
+                .Where(k => !string.IsNullOrEmpty(k.Kid))
+                .ToDictionary(k => k.Kid, k => (SecurityKey)k);
+            logger.LogInformation("Loaded {KeyCount} signing keys from JWKS {JwksUrl}.", _keys.Count, jwksUrl);
+
+            var maxAge = response.Headers.CacheControl?.MaxAge ?? DefaultRefreshInterval;
+            return maxAge < MinRefreshInterval ? MinRefreshInterval
+                : maxAge > MaxRefreshInterval ? MaxRefreshInterval
+                : maxAge;
+        }
+        catch (Exception ex) when (ex is not OperationCanceledException || !cancellationToken.IsCancellationRequested)
+        {
+            // 가져오기에 실패하면 기존 키를 유지하고 잠시 후 다시 시도합니다. (시간 초과도 여기서 처리)
+            logger.LogWarning(ex, "Failed to fetch JWKS from {JwksUrl}. Keeping {KeyCount} cached keys and retrying in {RetryInterval}.",
+                jwksUrl, _keys.Count, FailureRetryInterval);
+            return FailureRetryInterval;
+        }
+    }
+
+    public override void Dispose()
+    {
+        _refreshRequested.Dispose();
+        base.Dispose();
+    }
+}
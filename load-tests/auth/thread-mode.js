@@ -0,0 +1,78 @@
+/**
+ * 스레드 모드 비교 부하 테스트 (플랫폼 스레드 vs 가상 스레드)
+ *
+ * 모든 요청이 DynamoDB를 거치는 경로(/v1/users/me, LOOKUP 인증 모드)에 고정 도착률로 부하를 주고
+ * 처리량과 p99를 비교합니다. Auth 서비스는 DYNAMODB_SIMULATED_LATENCY=20-50 으로 실행해야 합니다.
+ *
+ * 실행:
+ *   k6 run -e MODE=platform auth/thread-mode.js
+ *   k6 run -e MODE=virtual auth/thread-mode.js
+ * 옵션: RATE(초당 요청 수, 기본 1000), DURATION(유지 시간, 기본 2m)
+ */
+import { check } from 'k6';
+import http from 'k6/http';
+import { AUTH_URL, authHeaders } from '../config/options.js';
+import { signUp, generateUser } from '../helpers/auth.js';
+
+const MODE = __ENV.MODE || 'unknown';
+const RATE = parseInt(__ENV.RATE || '1000', 10);
+const DURATION = __ENV.DURATION || '2m';
+
+export const options = {
+    scenarios: {
+        me: {
+            executor: 'constant-arrival-rate',
+            rate: RATE,
+            timeUnit: '1s',
+            duration: DURATION,
+            preAllocatedVUs: Math.min(RATE, 500),
+            maxVUs: RATE * 2,
+            tags: { mode: MODE },
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+export function setup() {
+    const users = [];
+    for (let i = 0; i < 20; i++) {
+        const tokens = signUp(generateUser());
+        if (tokens) {
+            users.push(tokens.accessToken);
+        }
+    }
+    console.log(`Created ${users.length} test users for thread-mode test (mode=${MODE})`);
+    return { users };
+}
+
+export default function (data) {
+    const token = data.users[Math.floor(Math.random() * data.users.length)];
+    const res = http.get(`${AUTH_URL}/api/v1/users/me`, authHeaders(token));
+
+    check(res, {
+        'me: status is 200': (r) => r.status === 200,
+    });
+}
+
+// 모드별 결과를 results/thread-mode-<MODE>.json으로 저장하여 두 실행을 비교합니다.
+export function handleSummary(data) {
+    const duration = data.metrics.http_req_duration.values;
+    const summary = {
+        mode: MODE,
+        targetRate: RATE,
+        throughput: data.metrics.http_reqs.values.rate,
+        p50: duration['p(50)'],
+        p95: duration['p(95)'],
+        p99: duration['p(99)'],
+        failedRate: data.metrics.http_req_failed.values.rate,
+        droppedIterations: data.metrics.dropped_iterations ? data.metrics.dropped_iterations.values.count : 0,
+    };
+
+    return {
+        stdout: `\n[thread-mode] ${JSON.stringify(summary)}\n`,
+        [`results/thread-mode-${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}